@@ -0,0 +1,55 @@
+package com.dishant.tasks.management.benchmark;
+
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskPriority;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic users and tasks shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private static final TaskStatus[] OPEN_STATUSES = {TaskStatus.PENDING, TaskStatus.IN_PROGRESS};
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(Long id, String username, Role role) {
+        return User.builder()
+                .id(id)
+                .name(username)
+                .username(username)
+                .email(username + "@example.com")
+                .password("{noop}password")
+                .role(role)
+                .enabled(true)
+                .build();
+    }
+
+    static List<Task> tasks(int count, User owner, User assignee) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(Task.builder()
+                    .title("Task " + i)
+                    .description("Description of benchmark task number " + i)
+                    .status(OPEN_STATUSES[i % OPEN_STATUSES.length])
+                    .flag(i % 10 == 0 ? "Flagged" : "Unflagged")
+                    .priority(PRIORITIES[i % PRIORITIES.length])
+                    .dueDate(now.plusHours(i))
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now.minusMinutes(i))
+                    .user(owner)
+                    .assignedTo(assignee)
+                    .build());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,83 @@
+package com.dishant.tasks.management.benchmark;
+
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.security.CustomUserDetails;
+import com.dishant.tasks.management.security.JwtClaims;
+import com.dishant.tasks.management.security.JwtFilter;
+import com.dishant.tasks.management.security.JwtService;
+import com.dishant.tasks.management.security.TokenRevocationService;
+import com.dishant.tasks.management.security.UserPrincipalCache;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter end to end for an authenticated API request: header parsing, token
+ * validation and building the Authentication, once from token claims alone and once
+ * through the user-backed path with a warm principal cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtFilter statelessFilter;
+    private JwtFilter userBackedFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = JwtServiceBenchmark.newJwtService();
+        CustomUserDetails userDetails = new CustomUserDetails(BenchmarkFixtures.user(42L, "benchmark-user", Role.USER));
+        authorization = "Bearer " + jwtService.generateToken(userDetails);
+
+        UserPrincipalCache principalCache = new UserPrincipalCache(Duration.ofHours(1), 1000);
+        principalCache.put(userDetails.getUsername(), userDetails);
+
+        statelessFilter = new JwtFilter(jwtService, username -> userDetails, principalCache, revocation(false));
+        userBackedFilter = new JwtFilter(jwtService, username -> userDetails, principalCache, revocation(true));
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication statelessRequest() throws ServletException, IOException {
+        return filter(statelessFilter);
+    }
+
+    @Benchmark
+    public Authentication userBackedRequest() throws ServletException, IOException {
+        return filter(userBackedFilter);
+    }
+
+    private Authentication filter(JwtFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/tasks");
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // Stands in for the Redis lookup; a revoked token forces the user-backed path
+    private static TokenRevocationService revocation(boolean revoked) {
+        return new TokenRevocationService(null) {
+            @Override
+            public boolean isRevoked(JwtClaims claims) {
+                return revoked;
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.dishant.tasks.management.benchmark;
+
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.security.CustomUserDetails;
+import com.dishant.tasks.management.security.JwtClaims;
+import com.dishant.tasks.management.security.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validate-and-extract cost of a bearer token as done by JwtFilter: the legacy variant
+ * rebuilds the key and parser per call and parses twice, the current one parses once
+ * with the precomputed parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    static final String SECRET = "averysecuresecretkeyformyjwtapp1234567890";
+
+    private JwtService jwtService;
+    private CustomUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = newJwtService();
+        userDetails = new CustomUserDetails(User.builder()
+                .id(42L)
+                .username("benchmark-user")
+                .role(Role.USER)
+                .build());
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateAndExtract() {
+        JwtClaims claims = jwtService.parse(token);
+        return jwtService.isValid(claims, userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyValidateAndExtract() {
+        // extractUsername() followed by isValid(), which parsed the token again
+        String username = legacyExtractUsername(token);
+        return username != null && legacyExtractUsername(token).equals(userDetails.getUsername());
+    }
+
+    static JwtService newJwtService() {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secret", SECRET);
+        ReflectionTestUtils.setField(service, "expiration", 36_000_000L);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    private static String legacyExtractUsername(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+}
@@ -0,0 +1,68 @@
+package com.dishant.tasks.management.benchmark;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.security.UserPrincipalCache;
+import com.dishant.tasks.management.utils.TaskHelperUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping and JSON serialization of task lists, i.e. everything a list
+ * endpoint does after the query returns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private TaskHelperUtil taskHelper;
+    private ObjectMapper objectMapper;
+    private List<Task> tasks;
+    private List<TaskResponse> responses;
+
+    @Setup
+    public void setUp() {
+        // mapToResponse only reads the task, so no repositories are needed
+        taskHelper = new TaskHelperUtil(null, null, new UserPrincipalCache(Duration.ofSeconds(30), 1000));
+        // Same modules and features as the ObjectMapper Spring Boot configures for MVC
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User owner = BenchmarkFixtures.user(1L, "owner", Role.USER);
+        User assignee = BenchmarkFixtures.user(2L, "assignee", Role.USER);
+        tasks = BenchmarkFixtures.tasks(size, owner, assignee);
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId((long) i + 1);
+        }
+        responses = mapToResponses();
+    }
+
+    @Benchmark
+    public List<TaskResponse> mapToResponses() {
+        return tasks.stream().map(taskHelper::mapToResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapToResponses());
+    }
+}
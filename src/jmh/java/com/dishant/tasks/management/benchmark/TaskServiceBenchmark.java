@@ -0,0 +1,125 @@
+package com.dishant.tasks.management.benchmark;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.TaskArchiveJdbcRepository;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.dishant.tasks.management.repository.TaskRepository;
+import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.dishant.tasks.management.security.UserPrincipalCache;
+import com.dishant.tasks.management.service.TaskCacheService;
+import com.dishant.tasks.management.service.TaskService;
+import com.dishant.tasks.management.utils.TaskHelperUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskService.getAllTasks against an in-memory H2 database (MySQL mode), covering the
+ * query, entity hydration and DTO mapping for a regular user and an admin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int tasksPerUser;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private UsernamePasswordAuthenticationToken userAuthentication;
+    private UsernamePasswordAuthenticationToken adminAuthentication;
+
+    @Setup
+    public void setUp() {
+        // Command line arguments take precedence over the MySQL settings in application.yml
+        context = new SpringApplicationBuilder(BenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off");
+        taskService = context.getBean(TaskService.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        TaskRepository taskRepository = context.getBean(TaskRepository.class);
+        User owner = userRepository.save(BenchmarkFixtures.user(null, "owner", Role.USER));
+        User other = userRepository.save(BenchmarkFixtures.user(null, "other", Role.USER));
+        taskRepository.saveAll(BenchmarkFixtures.tasks(tasksPerUser, owner, other));
+        taskRepository.saveAll(BenchmarkFixtures.tasks(tasksPerUser, other, owner));
+
+        userAuthentication = authentication(AuthenticatedUser.from(owner));
+        adminAuthentication = authentication(new AuthenticatedUser(-1L, "admin", Role.ADMIN));
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> getAllTasksAsUser() {
+        SecurityContextHolder.getContext().setAuthentication(userAuthentication);
+        return taskService.getAllTasks();
+    }
+
+    @Benchmark
+    public List<TaskResponse> getAllTasksAsAdmin() {
+        SecurityContextHolder.getContext().setAuthentication(adminAuthentication);
+        return taskService.getAllTasks();
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(AuthenticatedUser principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, List.of());
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            KafkaAutoConfiguration.class,
+            RedisAutoConfiguration.class,
+            RedisRepositoriesAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    @Import({TaskService.class, TaskJdbcRepository.class, TaskArchiveJdbcRepository.class, TaskHelperUtil.class,
+            UserPrincipalCache.class})
+    static class BenchmarkConfig {
+
+        // getAllTasks never reads the single-task cache, so it needs no Redis behind it
+        @Bean
+        TaskCacheService taskCacheService() {
+            return new TaskCacheService(new StringRedisTemplate(), new ObjectMapper(), new SimpleMeterRegistry(),
+                    1_000, Duration.ofSeconds(30));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.dishant.tasks.management.loadtest;
+
+import com.dishant.tasks.management.TaskManagementApplication;
+import com.dishant.tasks.management.service.TaskCountService;
+import com.github.fppt.jedismock.RedisServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The application started in-process for a load test: H2 in MySQL mode instead of MySQL,
+ * an in-process Redis (jedis-mock) for locks, counters and token revocation, Kafka
+ * listeners and the closure scheduler switched off. Command line arguments are used so
+ * they take precedence over application.yml.
+ */
+@Slf4j
+class EmbeddedEnvironment implements AutoCloseable {
+
+    private final RedisServer redisServer;
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedEnvironment(RedisServer redisServer, ConfigurableApplicationContext context) {
+        this.redisServer = redisServer;
+        this.context = context;
+    }
+
+    static EmbeddedEnvironment start(LoadTestConfig config) throws IOException {
+        RedisServer redisServer = RedisServer.newRedisServer();
+        redisServer.start();
+        log.info("In-process Redis listening on port {}", redisServer.getBindPort());
+        Path searchIndex = Files.createTempDirectory("loadtest-task-index");
+
+        ConfigurableApplicationContext context = SpringApplication.run(TaskManagementApplication.class,
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redisServer.getBindPort(),
+                "--spring.kafka.listener.auto-startup=false",
+                "--scheduler.cron=-",
+                "--scheduler.timer.enabled=false",
+                "--email.outbox.enabled=false",
+                "--task.outbox.relay.enabled=false",
+                "--task.export.fetch-size=1000",
+                "--task.search.index-path=" + searchIndex,
+                "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                "--spring.main.banner-mode=off");
+
+        EmbeddedEnvironment environment = new EmbeddedEnvironment(redisServer, context);
+        new FixtureSeeder(context).seed(config.users(), config.tasks(), config.password());
+        // Seeded rows bypass the task events, so rebuild the dashboard counters once
+        context.getBean(TaskCountService.class).reconcile();
+        return environment;
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        redisServer.stop();
+    }
+}
@@ -0,0 +1,122 @@
+package com.dishant.tasks.management.loadtest;
+
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskPriority;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.dishant.tasks.management.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dishant.tasks.management.constants.Constants.FLAGGED;
+import static com.dishant.tasks.management.constants.Constants.UNFLAGGED;
+
+/**
+ * Seeds users and tasks into the embedded database. Task titles and descriptions cycle
+ * through the Kafka fixture file (avro/task-data.json), scaled to the requested count, and
+ * are written through TaskJdbcRepository so millions of rows load in minutes.
+ */
+@Slf4j
+class FixtureSeeder {
+
+    static final String USER_PREFIX = "loaduser";
+    static final String ADMIN_USERNAME = "loadadmin";
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final TaskStatus[] STATUSES = {
+            TaskStatus.PENDING, TaskStatus.PENDING, TaskStatus.IN_PROGRESS, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED
+    };
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final UserRepository userRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    FixtureSeeder(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.taskJdbcRepository = context.getBean(TaskJdbcRepository.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+    }
+
+    void seed(int userCount, int taskCount, String password) throws IOException {
+        long start = System.nanoTime();
+        String encodedPassword = passwordEncoder.encode(password);
+
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(user(USER_PREFIX + i, Role.USER, encodedPassword));
+        }
+        users = userRepository.saveAll(users);
+        userRepository.save(user(ADMIN_USERNAME, Role.ADMIN, encodedPassword));
+
+        List<JsonNode> fixtures = readFixtures();
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < taskCount; i++) {
+            JsonNode fixture = fixtures.get(i % fixtures.size());
+            User owner = users.get(i % users.size());
+            LocalDateTime createdAt = now.minusMinutes(taskCount - i);
+            chunk.add(Task.builder()
+                    .title(fixture.get("title").asText() + " #" + i)
+                    .description(fixture.get("description").asText())
+                    .status(STATUSES[i % STATUSES.length])
+                    .flag(i % 7 == 0 ? FLAGGED : UNFLAGGED)
+                    .priority(PRIORITIES[i % PRIORITIES.length])
+                    // Due dates spread a month either side of now, so some are already overdue
+                    .dueDate(now.plusHours((i % 1440) - 720))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .user(owner)
+                    .assignedTo(owner)
+                    .build());
+            if (chunk.size() == CHUNK_SIZE) {
+                taskJdbcRepository.insertAll(chunk);
+                chunk.clear();
+                log.info("Seeded {} of {} tasks", i + 1, taskCount);
+            }
+        }
+        taskJdbcRepository.insertAll(chunk);
+
+        log.info("Seeded {} users and {} tasks in {} ms", userCount + 1, taskCount, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static User user(String username, Role role, String encodedPassword) {
+        return User.builder()
+                .name(username)
+                .username(username)
+                .email(username + "@loadtest.local")
+                .password(encodedPassword)
+                .role(role)
+                .enabled(true)
+                .build();
+    }
+
+    private static List<JsonNode> readFixtures() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> fixtures = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("avro/task-data.json").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    fixtures.add(objectMapper.readTree(line));
+                }
+            }
+        }
+        return fixtures;
+    }
+}
@@ -0,0 +1,125 @@
+package com.dishant.tasks.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms (microsecond resolution, up to one minute) and error
+ * counts for one measured run.
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> requests = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final long expectedIntervalMicros;
+
+    /**
+     * @param expectedIntervalMicros interval between requests of one client when running at
+     *                               a target rate, used to correct coordinated omission; 0 otherwise
+     */
+    LatencyReport(long expectedIntervalMicros) {
+        this.expectedIntervalMicros = expectedIntervalMicros;
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            requests.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        Histogram histogram = histograms.get(operation);
+        if (expectedIntervalMicros > 0) {
+            histogram.recordValueWithExpectedInterval(micros, expectedIntervalMicros);
+        } else {
+            histogram.recordValue(micros);
+        }
+        requests.get(operation).increment();
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        out.printf("%n%-32s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf("%-32s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().endpoint(),
+                    requests.get(entry.getKey()).sum(),
+                    errors.get(entry.getKey()).sum(),
+                    throughput(entry.getKey(), elapsed),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[0])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[1])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[2])),
+                    millis(histogram.getValueAtPercentile(PERCENTILES[3])),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    void writeJson(Path file, LoadTestConfig config, Duration elapsed) throws IOException {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            Map<String, Object> percentiles = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                percentiles.put("p" + String.valueOf(percentile).replace(".0", "").replace(".", ""),
+                        millis(histogram.getValueAtPercentile(percentile)));
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", requests.get(entry.getKey()).sum());
+            stats.put("errors", errors.get(entry.getKey()).sum());
+            stats.put("throughputPerSecond", throughput(entry.getKey(), elapsed));
+            stats.put("latencyMillis", percentiles);
+            stats.put("maxMillis", millis(histogram.getMaxValue()));
+            endpoints.put(entry.getKey().endpoint(), stats);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", config.users());
+        report.put("tasks", config.tasks());
+        report.put("concurrency", config.concurrency());
+        report.put("targetRate", config.rate());
+        report.put("virtualThreads", config.virtualThreads());
+        report.put("durationSeconds", elapsed.toMillis() / 1000.0);
+        report.put("endpoints", endpoints);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+    }
+
+    // Counted separately because coordinated omission correction adds synthetic histogram samples
+    private double throughput(Operation operation, Duration elapsed) {
+        return requests.get(operation).sum() / (elapsed.toMillis() / 1000.0);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
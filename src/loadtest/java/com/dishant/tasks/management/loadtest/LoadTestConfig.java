@@ -0,0 +1,79 @@
+package com.dishant.tasks.management.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code --name=value} or {@code name=value}. Whitespace
+ * separated options inside a single argument are accepted too, which is how
+ * {@code -Dloadtest.args} reaches us.
+ *
+ * @param baseUrl     URL of an already running app; when absent an embedded app is started
+ * @param users       number of regular users (loaduser0..N-1), seeded in embedded mode
+ * @param tasks       number of tasks seeded in embedded mode
+ * @param password    password shared by all load test users
+ * @param concurrency number of concurrent virtual clients
+ * @param rate        total target requests per second, or 0 to run closed loop as fast as possible
+ * @param warmup      unrecorded warmup before the measurement
+ * @param duration    measured run time
+ * @param mix         relative weight per operation, e.g. {@code --mix=get:50,create:10}
+ * @param virtualThreads run the embedded app with {@code spring.threads.virtual.enabled}
+ * @param report      JSON report location
+ */
+record LoadTestConfig(String baseUrl,
+                      int users,
+                      int tasks,
+                      String password,
+                      int concurrency,
+                      double rate,
+                      Duration warmup,
+                      Duration duration,
+                      Map<Operation, Integer> mix,
+                      boolean virtualThreads,
+                      Path report) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        Arrays.stream(args)
+                .flatMap(arg -> Arrays.stream(arg.trim().split("\\s+")))
+                .map(arg -> arg.startsWith("--") ? arg.substring(2) : arg)
+                .filter(arg -> arg.contains("="))
+                .forEach(arg -> options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1)));
+
+        return new LoadTestConfig(
+                options.get("base-url"),
+                Integer.parseInt(options.getOrDefault("users", "100")),
+                Integer.parseInt(options.getOrDefault("tasks", "100000")),
+                options.getOrDefault("password", "LoadTest#123"),
+                Integer.parseInt(options.getOrDefault("concurrency", "16")),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "15s")),
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "60s")),
+                parseMix(options.get("mix")),
+                Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false")),
+                Path.of(options.getOrDefault("report", "target/loadtest-report.json")));
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        if (value == null || value.isBlank()) {
+            for (Operation operation : Operation.values()) {
+                mix.put(operation, operation.defaultWeight());
+            }
+            return mix;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            Operation operation = Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            mix.put(operation, Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
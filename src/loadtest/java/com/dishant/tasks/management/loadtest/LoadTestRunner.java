@@ -0,0 +1,227 @@
+package com.dishant.tasks.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives a weighted mix of auth, task CRUD and dashboard requests from a fixed number of
+ * concurrent clients and reports latency percentiles and throughput per endpoint. Each
+ * client picks a random seeded user per request and works on that user's tasks.
+ * <p>
+ * Without {@code --rate} every client sends its next request as soon as the previous one
+ * completes (closed loop). With a target rate clients are paced, and latencies are
+ * corrected for coordinated omission against the intended send interval.
+ */
+public final class LoadTestRunner {
+
+    private static final String TASKS_PATH = "/v1/api/tasks";
+
+    private final LoadTestConfig config;
+    private final ApiClient api;
+    private final Operation[] weightedOperations;
+    private final List<Session> sessions = new ArrayList<>();
+    private Session admin;
+
+    private LoadTestRunner(LoadTestConfig config, ApiClient api) {
+        this.config = config;
+        this.api = api;
+        List<Operation> weighted = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> weighted.addAll(Collections.nCopies(weight, operation)));
+        this.weightedOperations = weighted.toArray(Operation[]::new);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        EmbeddedEnvironment environment = config.baseUrl() == null ? EmbeddedEnvironment.start(config) : null;
+        try {
+            String baseUrl = environment != null ? environment.baseUrl() : config.baseUrl();
+            new LoadTestRunner(config, new ApiClient(baseUrl)).run();
+        } finally {
+            if (environment != null) {
+                environment.close();
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        openSessions();
+
+        System.out.printf("Warming up for %s with %d clients...%n", config.warmup(), config.concurrency());
+        runPhase(config.warmup(), newReport());
+
+        System.out.printf("Measuring for %s...%n", config.duration());
+        LatencyReport report = newReport();
+        Duration elapsed = runPhase(config.duration(), report);
+
+        report.print(System.out, elapsed);
+        report.writeJson(config.report(), config, elapsed);
+        System.out.printf("%nReport written to %s%n", config.report().toAbsolutePath());
+    }
+
+    private LatencyReport newReport() {
+        return new LatencyReport(config.rate() > 0 ? clientIntervalMicros() : 0);
+    }
+
+    private long clientIntervalMicros() {
+        return (long) (TimeUnit.SECONDS.toMicros(1) * config.concurrency() / config.rate());
+    }
+
+    // Logs every user in once and loads the first page of their tasks as the id pool to work on
+    private void openSessions() throws IOException, InterruptedException {
+        for (int i = 0; i < config.users(); i++) {
+            Session session = login(FixtureSeeder.USER_PREFIX + i);
+            JsonNode page = api.readTree(api.get(TASKS_PATH + "?limit=200", session.token));
+            for (JsonNode item : page.get("items")) {
+                session.taskIds.add(item.get("id").asLong());
+            }
+            sessions.add(session);
+        }
+        admin = login(FixtureSeeder.ADMIN_USERNAME);
+        System.out.printf("Opened %d user sessions%n", sessions.size());
+    }
+
+    private Session login(String username) throws IOException, InterruptedException {
+        ApiClient.Response response = api.post("/v1/api/auth/login", null,
+                Map.of("usernameOrEmail", username, "password", config.password()));
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("Login failed for " + username + ": " + response.status() + " " + response.body());
+        }
+        return new Session(username, api.readTree(response).get("token").asText());
+    }
+
+    private Duration runPhase(Duration duration, LatencyReport report) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(config.concurrency());
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Callable<Void>> clients = new ArrayList<>();
+        for (int i = 0; i < config.concurrency(); i++) {
+            clients.add(() -> {
+                runClient(deadline, report);
+                return null;
+            });
+        }
+        executor.invokeAll(clients);
+        executor.shutdown();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private void runClient(long deadline, LatencyReport report) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intervalNanos = config.rate() > 0 ? TimeUnit.MICROSECONDS.toNanos(clientIntervalMicros()) : 0;
+        long nextSend = System.nanoTime();
+
+        while (System.nanoTime() < deadline) {
+            if (intervalNanos > 0) {
+                long wait = nextSend - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                nextSend += intervalNanos;
+            }
+
+            Session session = sessions.get(random.nextInt(sessions.size()));
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            if (session.needsTask(operation)) {
+                operation = Operation.CREATE;
+            }
+
+            long started = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation, session, random);
+            } catch (IOException e) {
+                success = false;
+            }
+            report.record(operation, System.nanoTime() - started, success);
+        }
+    }
+
+    private boolean execute(Operation operation, Session session, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        return switch (operation) {
+            case LOGIN -> api.post("/v1/api/auth/login", null,
+                    Map.of("usernameOrEmail", session.username, "password", config.password())).isSuccess();
+            case LIST_PAGE -> api.get(TASKS_PATH + "?limit=50", session.token).isSuccess();
+            case LIST_ALL -> api.get(TASKS_PATH, session.token).isSuccess();
+            case GET -> api.get(TASKS_PATH + "/" + session.randomTask(random), session.token).isSuccess();
+            case CREATE -> {
+                ApiClient.Response response = api.post(TASKS_PATH, session.token, Map.of(
+                        "title", "Load test task",
+                        "description", "Created by the load test",
+                        "dueDate", LocalDateTime.now().plusDays(random.nextInt(1, 30)).withNano(0).toString(),
+                        "priority", "MEDIUM"));
+                if (response.isSuccess()) {
+                    session.addTask(api.readTree(response).get("id").asLong());
+                }
+                yield response.isSuccess();
+            }
+            case UPDATE -> {
+                long id = session.randomTask(random);
+                yield api.put(TASKS_PATH + "/" + id, session.token, Map.of(
+                        "id", id,
+                        "title", "Load test task (updated)",
+                        "description", "Updated by the load test",
+                        "dueDate", LocalDateTime.now().plusDays(7).withNano(0).toString(),
+                        "type", "flag",
+                        "value", random.nextBoolean() ? "Flagged" : "Unflagged",
+                        "priority", "HIGH")).isSuccess();
+            }
+            case DELETE -> {
+                Long id = session.takeTask(random);
+                yield id != null && api.delete(TASKS_PATH + "/" + id, session.token).isSuccess();
+            }
+            case DASHBOARD -> api.get("/v1/api/admin/dashboard", admin.token).isSuccess();
+        };
+    }
+
+    /**
+     * A logged in user and the ids of tasks it owns, shared by all clients.
+     */
+    private static final class Session {
+
+        private final String username;
+        private final String token;
+        private final List<Long> taskIds = new ArrayList<>();
+
+        private Session(String username, String token) {
+            this.username = username;
+            this.token = token;
+        }
+
+        synchronized boolean needsTask(Operation operation) {
+            return taskIds.isEmpty() && (operation == Operation.GET || operation == Operation.UPDATE || operation == Operation.DELETE);
+        }
+
+        synchronized long randomTask(ThreadLocalRandom random) {
+            // Another client may have deleted the last task in the meantime; a 404 counts as an error
+            return taskIds.isEmpty() ? -1 : taskIds.get(random.nextInt(taskIds.size()));
+        }
+
+        synchronized void addTask(long id) {
+            taskIds.add(id);
+        }
+
+        synchronized Long takeTask(ThreadLocalRandom random) {
+            if (taskIds.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(taskIds.size());
+            Long id = taskIds.get(index);
+            taskIds.set(index, taskIds.get(taskIds.size() - 1));
+            taskIds.remove(taskIds.size() - 1);
+            return id;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.dishant.tasks.management.loadtest;
+
+/**
+ * Request types the load test mixes, each reported as its own latency histogram.
+ */
+enum Operation {
+    LOGIN("POST /v1/api/auth/login", 5),
+    LIST_PAGE("GET /v1/api/tasks?limit=50", 25),
+    LIST_ALL("GET /v1/api/tasks", 5),
+    GET("GET /v1/api/tasks/{id}", 25),
+    CREATE("POST /v1/api/tasks", 15),
+    UPDATE("PUT /v1/api/tasks/{id}", 15),
+    DELETE("DELETE /v1/api/tasks/{id}", 5),
+    DASHBOARD("GET /v1/api/admin/dashboard", 5);
+
+    private final String endpoint;
+    private final int defaultWeight;
+
+    Operation(String endpoint, int defaultWeight) {
+        this.endpoint = endpoint;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+}
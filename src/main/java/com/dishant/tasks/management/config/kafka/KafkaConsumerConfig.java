@@ -8,10 +8,12 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 
 import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
@@ -31,6 +33,15 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:task-group}")
     private String group_id;
 
+    @Value("${spring.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${spring.kafka.listener.auto-startup:true}")
+    private boolean autoStartup;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @PostConstruct
     public void logKafkaConfig() {
         log.info("KafkaConsumerConfig initialized with bootstrap servers: {}", bootstrapServers);
@@ -47,6 +58,8 @@ public class KafkaConsumerConfig {
             props.put(ConsumerConfig.GROUP_ID_CONFIG, group_id);
             props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
             props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaAvroDeserializer.class);
+            props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
             props.put("schema.registry.url", schemaRegistryUrl);
             props.put("specific.avro.reader", true);
 
@@ -65,6 +78,16 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, TaskEventSchema> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(avroConsumerFactory());
+        // Listeners receive a whole poll at once; offsets are committed after each batch is handled
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setAutoStartup(autoStartup);
+        if (virtualThreads) {
+            // Boot only does this for its own factory, so mirror it here
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
         return factory;
     }
 }
@@ -0,0 +1,47 @@
+package com.dishant.tasks.management.config.redis;
+
+import com.dishant.tasks.management.service.TaskChangeBroadcaster;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@Slf4j
+public class RedisPubSubConfig {
+
+    // One thread, so task change messages are handled in the order Redis published them: an
+    // UPDATED followed by a CLOSED for the same task must not reach the cache, the due task
+    // timer or the SSE streams the other way round. The container's default starts a thread
+    // per message. Not a bean, so Boot's applicationTaskExecutor is still auto-configured.
+    private final ExecutorService listenerExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-change-listener");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        TaskChangeBroadcaster taskChangeBroadcaster) {
+        log.info("Subscribing to Redis channel {}", TaskChangeBroadcaster.CHANNEL);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(listenerExecutor);
+        // Otherwise a blocking subscription would take the only listener thread
+        container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor("task-change-subscription-"));
+        container.addMessageListener(taskChangeBroadcaster, new ChannelTopic(TaskChangeBroadcaster.CHANNEL));
+        return container;
+    }
+
+    @PreDestroy
+    public void stop() {
+        listenerExecutor.shutdown();
+    }
+}
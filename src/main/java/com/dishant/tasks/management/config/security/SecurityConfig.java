@@ -1,6 +1,7 @@
 package com.dishant.tasks.management.config.security;
 
 import com.dishant.tasks.management.security.JwtFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,6 +42,8 @@ public class SecurityConfig {
                             "/actuator/**", "/v1/api/auth/**", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html"
                     ).permitAll();
                     auth.requestMatchers("/v1/api/admin/**").hasRole("ADMIN");
+                    // Completing a task stream re-dispatches the already authorized request
+                    auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
                     auth.anyRequest().authenticated();
                     log.debug("Authorization rules applied: Auth endpoints are publicly accessible");
                 })
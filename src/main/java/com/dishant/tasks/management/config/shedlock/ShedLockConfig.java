@@ -3,6 +3,7 @@ package com.dishant.tasks.management.config.shedlock;
 import net.javacrumbs.shedlock.core.LockProvider;
 import net.javacrumbs.shedlock.provider.redis.spring.RedisLockProvider;
 import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -11,8 +12,17 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 @EnableSchedulerLock(defaultLockAtMostFor = "10m")
 public class ShedLockConfig {
 
+    @Value("${shedlock.redis.key-prefix:job-lock}")
+    private String keyPrefix;
+
+    @Value("${shedlock.redis.environment:default}")
+    private String environment;
+
     @Bean
     public LockProvider lockProvider(RedisConnectionFactory connectionFactory) {
-        return new RedisLockProvider(connectionFactory);
+        return new RedisLockProvider.Builder(connectionFactory)
+                .keyPrefix(keyPrefix)
+                .environment(environment)
+                .build();
     }
 }
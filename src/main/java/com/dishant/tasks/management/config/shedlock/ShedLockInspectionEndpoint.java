@@ -0,0 +1,104 @@
+package com.dishant.tasks.management.config.shedlock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Diagnostic view of the ShedLock keys currently held in Redis, exposed at
+ * {@code /actuator/shedlocks}. Keys are walked with a cursor-based SCAN restricted to the
+ * configured lock prefix, capped at {@code max-keys}, and a new scan is started at most
+ * once per {@code min-interval}; calls in between are answered from the previous result.
+ */
+@Component
+@Endpoint(id = "shedlocks")
+@ConditionalOnProperty(name = "shedlock.inspection.enabled", havingValue = "true")
+@Slf4j
+@RequiredArgsConstructor
+public class ShedLockInspectionEndpoint {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${shedlock.redis.key-prefix:job-lock}")
+    private String keyPrefix;
+
+    @Value("${shedlock.inspection.min-interval:10s}")
+    private Duration minInterval;
+
+    @Value("${shedlock.inspection.max-keys:500}")
+    private int maxKeys;
+
+    @Value("${shedlock.inspection.scan-count:100}")
+    private int scanCount;
+
+    // Not synchronized: the scan does Redis I/O, which would pin a virtual thread to its carrier
+    private final ReentrantLock scanLock = new ReentrantLock();
+
+    private LockSnapshot lastSnapshot;
+
+    @ReadOperation
+    public LockSnapshot locks() {
+        scanLock.lock();
+        try {
+            Instant now = Instant.now();
+            if (lastSnapshot != null && lastSnapshot.scannedAt().plus(minInterval).isAfter(now)) {
+                return lastSnapshot;
+            }
+            lastSnapshot = scan(now);
+            return lastSnapshot;
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private LockSnapshot scan(Instant now) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(keyPrefix + ":*")
+                .count(scanCount)
+                .build();
+
+        List<String> keys = new ArrayList<>();
+        boolean truncated = false;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                if (keys.size() == maxKeys) {
+                    truncated = true;
+                    break;
+                }
+                keys.add(cursor.next());
+            }
+        }
+
+        Map<String, String> locks = new LinkedHashMap<>();
+        if (!keys.isEmpty()) {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                // A lock may have expired between SCAN and MGET
+                String value = values == null ? null : values.get(i);
+                if (value != null) {
+                    locks.put(keys.get(i), value);
+                }
+            }
+        }
+        log.debug("Scanned {} ShedLock keys with prefix {} (truncated: {})", locks.size(), keyPrefix, truncated);
+        return new LockSnapshot(now, locks.size(), truncated, locks);
+    }
+
+    public record LockSnapshot(Instant scannedAt, int count, boolean truncated, Map<String, String> locks) {
+    }
+}
@@ -8,4 +8,6 @@ public class Constants {
     public static final String UNFLAGGED = "Unflagged";
     public static final String USER_NOT_FOUND_ERROR_MESSAGE= "User not found";
     public static final String EMAIL = "email";
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
 }
@@ -1,14 +1,24 @@
 package com.dishant.tasks.management.controller;
 
 import com.dishant.tasks.management.dto.AdminUserResponse;
+import com.dishant.tasks.management.dto.TaskPageResponse;
 import com.dishant.tasks.management.dto.UserRoleUpdateRequest;
 import com.dishant.tasks.management.service.AdminService;
+import com.dishant.tasks.management.service.TaskArchiveService;
+import com.dishant.tasks.management.service.TaskExportService;
+import com.dishant.tasks.management.service.TaskSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.util.Locale;
 import java.util.Map;
 
 @RestController
@@ -19,6 +29,9 @@ import java.util.Map;
 public class AdminController {
 
     private final AdminService adminService;
+    private final TaskExportService taskExportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskArchiveService taskArchiveService;
 
     @GetMapping("/users/{id}")
     public ResponseEntity<AdminUserResponse> getUserById(@PathVariable Long id) {
@@ -45,4 +58,46 @@ public class AdminController {
         log.info("Received request to get the dashboard stats");
         return ResponseEntity.ok(adminService.getDashboardStats());
     }
+
+    /**
+     * Streams every task as NDJSON (default) or CSV while it is read from the database,
+     * gzip-compressed when the client accepts it.
+     */
+    @GetMapping("/tasks/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("Received request to export tasks as {}", format);
+        TaskExportService.Format exportFormat = TaskExportService.Format.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks-" + LocalDate.now() + "." + exportFormat.extension()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> taskExportService.export(exportFormat, gzip, out));
+    }
+
+    /** Rebuilds this node's task search index from the database in the background. */
+    @PostMapping("/tasks/search/reindex")
+    public ResponseEntity<String> reindexTasks() {
+        log.info("Received request to rebuild the task search index");
+        if (!taskSearchService.startRebuild()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("A rebuild is already running.");
+        }
+        return ResponseEntity.accepted().body("Task search index rebuild started.");
+    }
+
+    /** Pages through archived tasks, optionally of one creator, oldest first. */
+    @GetMapping("/tasks/archive")
+    public ResponseEntity<TaskPageResponse> getArchivedTasks(@RequestParam(required = false) Long userId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer limit) {
+        log.info("Received request to get archived tasks for user: {}", userId);
+        return ResponseEntity.ok(taskArchiveService.getArchivedTaskPage(userId, cursor, limit));
+    }
 }
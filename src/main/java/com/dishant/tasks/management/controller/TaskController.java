@@ -1,14 +1,24 @@
 package com.dishant.tasks.management.controller;
 
+import com.dishant.tasks.management.dto.BulkTaskResponse;
+import com.dishant.tasks.management.dto.TaskFilter;
+import com.dishant.tasks.management.dto.TaskPageResponse;
 import com.dishant.tasks.management.dto.UpdateTaskRequest;
+import com.dishant.tasks.management.service.TaskSearchService;
+import com.dishant.tasks.management.service.TaskStreamService;
+import com.dishant.tasks.management.utils.ETagUtil;
+import com.dishant.tasks.management.utils.TaskHelperUtil;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import com.dishant.tasks.management.dto.TaskRequest;
 import com.dishant.tasks.management.dto.TaskResponse;
 import com.dishant.tasks.management.service.TaskService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 @RestController
@@ -19,6 +29,9 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskStreamService taskStreamService;
+    private final TaskSearchService taskSearchService;
+    private final TaskHelperUtil taskHelper;
 
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@RequestBody TaskRequest request) {
@@ -27,19 +40,73 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResponse> createTasks(@RequestBody List<TaskRequest> requests) {
+        log.info("Received request to create {} tasks in bulk", requests.size());
+        return ResponseEntity.ok(taskService.createTasks(requests));
+    }
+
+    @PutMapping("/bulk")
+    public ResponseEntity<BulkTaskResponse> updateTasks(@RequestBody List<UpdateTaskRequest> requests) {
+        log.info("Received request to update {} tasks in bulk", requests.size());
+        return ResponseEntity.ok(taskService.updateTasks(requests));
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkTaskResponse> deleteTasks(@RequestBody List<Long> ids) {
+        log.info("Received request to delete {} tasks in bulk", ids.size());
+        return ResponseEntity.ok(taskService.deleteTasks(ids));
+    }
+
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
+    public ResponseEntity<List<TaskResponse>> getAllTasks(WebRequest webRequest) {
         log.info("Received request to get all tasks");
+        // Taken before the list is read, so a change in between only costs the client a full response
+        String eTag = taskService.getAllTasksETag();
+        if (webRequest.checkNotModified(eTag)) {
+            log.debug("Task list unchanged, answering 304");
+            return null;
+        }
         List<TaskResponse> tasks = taskService.getAllTasks();
         log.debug("Total tasks: {}", tasks.size());
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok().eTag(eTag).body(tasks);
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<TaskPageResponse> getTaskPage(TaskFilter filter) {
+        log.info("Received request to get task page: {}", filter);
+        TaskPageResponse page = taskService.getTaskPage(filter);
+        log.debug("Page size: {}, hasMore: {}", page.getItems().size(), page.isHasMore());
+        return ResponseEntity.ok(page);
+    }
+
+    /** Full-text search over the caller's task titles and descriptions (every task for admins), best match first. */
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponse>> searchTasks(@RequestParam("q") String query,
+                                                          @RequestParam(required = false) Integer limit) {
+        log.info("Received request to search tasks for: {}", query);
+        return ResponseEntity.ok(taskSearchService.search(query, limit));
+    }
+
+    /**
+     * Pushes created, updated, closed and deleted events for the caller's tasks (every task
+     * for admins) as Server-Sent Events. Each event carries the task snapshot as JSON.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks() {
+        log.info("Received request to stream task changes");
+        return taskStreamService.subscribe(taskHelper.getCurrentPrincipal());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest webRequest) {
         log.info("Request request to get task for ID: {}", id);
         TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        String eTag = ETagUtil.task(task);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(task);
     }
 
     @PutMapping("/{id}")
@@ -5,6 +5,8 @@ import com.dishant.tasks.management.dto.UpdateProfileRequest;
 import com.dishant.tasks.management.dto.UserResponse;
 import com.dishant.tasks.management.model.User;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.UserPrincipalCache;
+import com.dishant.tasks.management.utils.ETagUtil;
 import com.dishant.tasks.management.utils.TaskHelperUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,6 +27,7 @@ public class UserController {
     private final UserRepository userRepository;
     private final TaskHelperUtil taskHelper;
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache principalCache;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -41,11 +45,16 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getProfile() {
+    public ResponseEntity<UserResponse> getProfile(WebRequest webRequest) {
         log.info("Received request to get current profile");
         User user = taskHelper.getCurrentUser();
         log.info("Fetching profile for user: {}", user.getUsername());
-        return ResponseEntity.ok(new UserResponse(user));
+        UserResponse profile = new UserResponse(user);
+        String eTag = ETagUtil.profile(profile);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(profile);
     }
 
     @PutMapping("/update")
@@ -54,6 +63,7 @@ public class UserController {
         user.setName(request.name());
         user.setEmail(request.email());
         userRepository.save(user);
+        principalCache.evict(user);
         log.info("Profile updated for user: {}", user.getUsername());
         return ResponseEntity.ok("Profile updated successfully");
     }
@@ -69,6 +79,7 @@ public class UserController {
 
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         userRepository.save(user);
+        principalCache.evict(user);
         log.info("Password updated for user: {}", user.getUsername());
         return ResponseEntity.ok("Password updated successfully");
     }
@@ -0,0 +1,25 @@
+package com.dishant.tasks.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaskResponse {
+    private int succeeded;
+    private int failed;
+    private List<BulkTaskResult> results;  // in request order
+
+    public static BulkTaskResponse of(List<BulkTaskResult> results) {
+        List<BulkTaskResult> ordered = results.stream().sorted(Comparator.comparingInt(BulkTaskResult::getIndex)).toList();
+        int succeeded = (int) ordered.stream().filter(BulkTaskResult::isSucceeded).count();
+        return new BulkTaskResponse(succeeded, ordered.size() - succeeded, ordered);
+    }
+}
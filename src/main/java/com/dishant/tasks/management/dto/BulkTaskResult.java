@@ -0,0 +1,30 @@
+package com.dishant.tasks.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkTaskResult {
+    private int index;          // position of the item in the request
+    private Long id;
+    private int status;         // HTTP status the item would have had as a single request
+    private TaskResponse task;  // null for deletes and failed items
+    private String error;
+
+    public static BulkTaskResult success(int index, int status, Long id, TaskResponse task) {
+        return BulkTaskResult.builder().index(index).status(status).id(id).task(task).build();
+    }
+
+    public static BulkTaskResult failure(int index, int status, Long id, String error) {
+        return BulkTaskResult.builder().index(index).status(status).id(id).error(error).build();
+    }
+
+    public boolean isSucceeded() {
+        return error == null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.dishant.tasks.management.dto;
+
+import com.dishant.tasks.management.model.TaskPriority;
+import com.dishant.tasks.management.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskFilter {
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String flag;
+    private Long assignedToId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+    private String cursor;
+    private Integer limit;
+}
@@ -21,6 +21,7 @@ public class TaskResponse {
     private LocalDateTime dueDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     private String flag;
     private String username;  // who created the task
     private String assignedToUsername;
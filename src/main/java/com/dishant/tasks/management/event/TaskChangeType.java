@@ -0,0 +1,9 @@
+package com.dishant.tasks.management.event;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    CLOSED,
+    DELETED,
+    ARCHIVED
+}
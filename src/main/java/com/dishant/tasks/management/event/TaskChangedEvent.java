@@ -0,0 +1,15 @@
+package com.dishant.tasks.management.event;
+
+import java.util.List;
+
+/**
+ * Published through the application event bus whenever tasks are created, updated, closed
+ * or deleted, from the REST API, Kafka ingestion or the scheduler. Bulk operations publish a
+ * single event for all affected tasks.
+ */
+public record TaskChangedEvent(TaskChangeType type, List<TaskSnapshot> tasks) {
+
+    public static TaskChangedEvent of(TaskChangeType type, TaskSnapshot task) {
+        return new TaskChangedEvent(type, List.of(task));
+    }
+}
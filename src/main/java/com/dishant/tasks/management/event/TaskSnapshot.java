@@ -0,0 +1,33 @@
+package com.dishant.tasks.management.event;
+
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the task fields event consumers need, taken while the change is being
+ * made so that listeners never touch a (possibly detached) entity.
+ */
+public record TaskSnapshot(Long id,
+                           Long ownerId,
+                           Long assigneeId,
+                           TaskStatus status,
+                           TaskStatus previousStatus,
+                           LocalDateTime dueDate) {
+
+    public static TaskSnapshot of(Task task, TaskStatus previousStatus) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getUser() != null ? task.getUser().getId() : null,
+                task.getAssignedTo() != null ? task.getAssignedTo().getId() : null,
+                task.getStatus(),
+                previousStatus,
+                task.getDueDate());
+    }
+
+    /** Copy for a task moving from its current status to the given one. */
+    public TaskSnapshot transitionTo(TaskStatus newStatus) {
+        return new TaskSnapshot(id, ownerId, assigneeId, newStatus, status, dueDate);
+    }
+}
@@ -1,66 +1,47 @@
 package com.dishant.tasks.management.listener;
 
-import com.dishant.tasks.management.model.Task;
-import com.dishant.tasks.management.model.TaskStatus;
-import com.dishant.tasks.management.model.User;
-import com.dishant.tasks.management.repository.TaskRepository;
-import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.service.TaskIngestService;
 import com.example.kafka.avro.TaskEventSchema;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-
-import static com.dishant.tasks.management.constants.Constants.UNFLAGGED;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TaskKafkaListener {
 
-    private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
-
-    @KafkaListener(topics = "task-topic", groupId = "task-group")
-    public void consume(ConsumerRecord<String, TaskEventSchema> eventRecord) {
-        TaskEventSchema event = eventRecord.value();
-        log.info("Processing task event from Kafka for user '{}': {}", event.getUserName(), event.getTitle());
-
-        LocalDateTime dueDate;
-        try {
-            dueDate = LocalDateTime.parse(event.getDueDate());
-        } catch (Exception e) {
-            log.error("Invalid due date format '{}', skipping task: {}", event.getDueDate(), event.getTitle(), e);
-            return;
-        }
+    private final TaskIngestService taskIngestService;
 
-        Long userId = event.getUserId();
-        User user = userRepository.findById(userId)
-                .orElse(null);
+    // Committed processed offset per partition, at most one entry per partition of the topic.
+    // Offsets only grow, so a stale entry can let a duplicate through to the database check
+    // but never drops a record that still needs processing.
+    private final Map<TopicPartition, Long> processedOffsets = new ConcurrentHashMap<>();
 
-        if (user == null) {
-            log.error("User not found for ID '{}'. Task '{}' skipped.", userId, event.getTitle());
-            return;
-        }
-
-        if (!user.getUsername().equals(event.getUserName())) {
-            log.error("Username mismatch for user ID '{}'. Expected '{}', but got '{}'.", userId, user.getUsername(), event.getUserName());
+    /**
+     * Consumes one poll worth of task events. Records this node already ingested are dropped
+     * without a database round trip; the rest go through TaskIngestService, which dedupes
+     * against the stored offsets. The container commits the batch's offsets on return.
+     */
+    @KafkaListener(topics = "task-topic", groupId = "task-group")
+    public void consume(List<ConsumerRecord<String, TaskEventSchema>> eventRecords) {
+        List<ConsumerRecord<String, TaskEventSchema>> unseen = eventRecords.stream()
+                .filter(eventRecord -> eventRecord.offset() > processedOffsets.getOrDefault(
+                        new TopicPartition(eventRecord.topic(), eventRecord.partition()), -1L))
+                .toList();
+        if (unseen.isEmpty()) {
+            log.info("Skipped batch of {} task events already ingested", eventRecords.size());
             return;
         }
 
-        Task task = Task.builder()
-                .title(event.getTitle())
-                .description(event.getDescription())
-                .dueDate(dueDate)
-                .flag(UNFLAGGED)
-                .status(TaskStatus.PENDING)
-                .user(user)
-                .build();
-
-        Task saved = taskRepository.save(task);
-        log.info("Task '{}' saved successfully from Kafka for user '{}'", saved.getTitle(), user.getUsername());
+        Map<TopicPartition, Long> committed = taskIngestService.ingest(unseen);
+        committed.forEach((partition, offset) -> processedOffsets.merge(partition, offset, Math::max));
     }
 }
@@ -0,0 +1,7 @@
+package com.dishant.tasks.management.model;
+
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
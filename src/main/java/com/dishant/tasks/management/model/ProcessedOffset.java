@@ -0,0 +1,43 @@
+package com.dishant.tasks.management.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Highest Kafka offset per topic partition whose events have been ingested. It is advanced
+ * in the same transaction as the inserted tasks, so a redelivered record is recognised as
+ * already processed no matter which consumer or node sees it again.
+ */
+@Entity
+@Table(name = "kafka_processed_offsets")
+@IdClass(ProcessedOffset.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedOffset {
+
+    @Id
+    @Column(length = 200)
+    private String topic;
+
+    @Id
+    @Column(name = "partition_id")
+    private int partition;
+
+    private long committedOffset;
+
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String topic;
+        private int partition;
+    }
+}
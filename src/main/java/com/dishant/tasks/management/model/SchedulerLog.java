@@ -6,7 +6,9 @@ import lombok.*;
 import java.sql.Timestamp;
 
 @Entity
-@Table(name = "scheduler_logs")
+@Table(name = "scheduler_logs", indexes = {
+        @Index(name = "idx_scheduler_logs_start_time", columnList = "start_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
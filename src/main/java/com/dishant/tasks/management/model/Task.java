@@ -4,15 +4,30 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_user_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_tasks_assigned_to_created_at_id", columnList = "assigned_to_id, created_at, id"),
+        @Index(name = "idx_tasks_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_tasks_priority_created_at_id", columnList = "priority, created_at, id"),
+        @Index(name = "idx_tasks_flag_created_at_id", columnList = "flag, created_at, id"),
+        @Index(name = "idx_tasks_due_date_id", columnList = "due_date, id"),
+        @Index(name = "idx_tasks_status_due_date_id", columnList = "status, due_date, id"),
+        @Index(name = "idx_tasks_status_updated_at_id", columnList = "status, updated_at, id"),
+        @Index(name = "idx_tasks_status_shard_due_date_id", columnList = "status, shard, due_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Task {
 
+    /** Number of closure shards; every task is given one at random when it is created. */
+    public static final int SHARD_COUNT = 64;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +48,10 @@ public class Task {
 
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(columnDefinition = "bigint default 0")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user; // Creator
@@ -44,17 +63,25 @@ public class Task {
     @Enumerated(EnumType.STRING)
     private TaskPriority priority = TaskPriority.MEDIUM;
 
+    @Column(columnDefinition = "int not null default 0")
+    private Integer shard;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = createdAt;
         status = TaskStatus.PENDING;
         flag = "Unflagged";
+        shard = randomShard();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    public static int randomShard() {
+        return ThreadLocalRandom.current().nextInt(SHARD_COUNT);
+    }
 }
 
@@ -0,0 +1,55 @@
+package com.dishant.tasks.management.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed task moved out of {@code tasks} by the retention job. Ids are the original task
+ * ids, and usernames are copied so the row still reads correctly after a user is deleted.
+ */
+@Entity
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_tasks_archive_user_created_at_id", columnList = "user_id, created_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskArchive {
+
+    @Id
+    private Long id;
+
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private TaskPriority priority;
+
+    private String flag;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long userId;
+
+    private String username;
+
+    private Long assignedToId;
+
+    private String assignedToUsername;
+
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,48 @@
+package com.dishant.tasks.management.model;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task change waiting to be published to Kafka. Rows are inserted in the transaction that
+ * changed the task and deleted once the broker has acknowledged them; the id doubles as
+ * the event id consumers de-duplicate on.
+ */
+@Entity
+@Table(name = "task_change_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangeOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private TaskChangeType eventType;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    private Long ownerId;
+
+    private Long assigneeId;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus previousStatus;
+
+    private LocalDateTime dueDate;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
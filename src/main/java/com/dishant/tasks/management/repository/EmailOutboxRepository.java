@@ -0,0 +1,36 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.model.EmailOutbox;
+import com.dishant.tasks.management.model.EmailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Locks the oldest due messages. Rows already locked by another node are skipped
+     * ({@code FOR UPDATE SKIP LOCKED}) rather than waited for.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from EmailOutbox e where e.status = :status and e.nextAttemptAt <= :now order by e.nextAttemptAt, e.id")
+    List<EmailOutbox> lockDue(@Param("status") EmailStatus status, @Param("now") LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("update EmailOutbox e set e.status = :sent, e.sentAt = :now, e.attempts = e.attempts + 1, e.lastError = null " +
+            "where e.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sent") EmailStatus sent, @Param("now") LocalDateTime now);
+}
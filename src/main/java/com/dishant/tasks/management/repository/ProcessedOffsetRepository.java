@@ -0,0 +1,19 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.model.ProcessedOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProcessedOffsetRepository extends JpaRepository<ProcessedOffset, ProcessedOffset.Key> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from ProcessedOffset o where o.topic = :topic and o.partition = :partition")
+    Optional<ProcessedOffset> lockByTopicAndPartition(@Param("topic") String topic, @Param("partition") int partition);
+}
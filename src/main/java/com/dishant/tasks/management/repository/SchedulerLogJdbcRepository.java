@@ -0,0 +1,50 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.model.SchedulerLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plain JDBC for {@code scheduler_logs}: batched inserts for
+ * {@link com.dishant.tasks.management.scheduler.SchedulerLogWriter} and batched deletes for
+ * the retention job.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLogJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into scheduler_logs (task_id, system_name, status, start_time, end_time, remarks)
+            values (?, ?, ?, ?, ?, ?)""";
+
+    private static final String SELECT_EXPIRED_SQL = "select id from scheduler_logs where start_time < ? order by id limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<SchedulerLog> logs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, logs, logs.size(), (ps, log) -> {
+            ps.setObject(1, log.getTaskId(), Types.BIGINT);
+            ps.setString(2, log.getSystemName());
+            ps.setString(3, log.getStatus());
+            ps.setTimestamp(4, log.getStartTime());
+            ps.setTimestamp(5, log.getEndTime());
+            ps.setString(6, log.getRemarks());
+        });
+    }
+
+    /** Deletes up to {@code limit} rows started before {@code startedBefore}, oldest first. */
+    public int deleteStartedBefore(Timestamp startedBefore, int limit) {
+        List<Object> ids = jdbcTemplate.queryForList(SELECT_EXPIRED_SQL, Object.class, startedBefore, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("delete from scheduler_logs where id in ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", ids.toArray());
+    }
+}
@@ -0,0 +1,91 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plain JDBC for moving tasks into {@code tasks_archive}. Each batch is picked on
+ * {@code idx_tasks_status_updated_at_id}, locked by id, copied with a single INSERT ... SELECT,
+ * which also copies the usernames, and is then deleted from {@code tasks}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskArchiveJdbcRepository {
+
+    // Ordered like idx_tasks_status_updated_at_id so the scan stops after the batch
+    private static final String SELECT_ARCHIVABLE_IDS_SQL = """
+            select id from tasks
+            where status = ? and updated_at < ?
+            order by updated_at, id limit ?""";
+
+    // Locks only the batch's rows; a locking range scan would also lock archivable rows past
+    // the batch, and the gaps between them. The predicates are checked again because a task
+    // may have changed since its id was picked.
+    private static final String LOCK_ARCHIVABLE_SQL = """
+            select id, user_id, assigned_to_id, due_date from tasks
+            where id in (%s) and status = ? and updated_at < ?
+            order by updated_at, id for update""";
+
+    private static final String ARCHIVE_SQL = """
+            insert into tasks_archive (id, title, description, status, priority, flag, due_date, created_at,
+                                       updated_at, user_id, username, assigned_to_id, assigned_to_username, archived_at)
+            select t.id, t.title, t.description, t.status, t.priority, t.flag, t.due_date, t.created_at,
+                   t.updated_at, t.user_id, u.username, t.assigned_to_id, a.username, ?
+            from tasks t
+            left join users u on u.id = t.user_id
+            left join users a on a.id = t.assigned_to_id
+            where t.id in (%s)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Moves up to {@code limit} tasks with the given status, last changed before
+     * {@code changedBefore}, into {@code tasks_archive}. The batch stays locked from selection
+     * to delete, so call it in a transaction; a small limit keeps that transaction short.
+     */
+    public List<TaskSnapshot> archive(TaskStatus status, LocalDateTime changedBefore, int limit, LocalDateTime archivedAt) {
+        List<Long> candidates = jdbcTemplate.queryForList(SELECT_ARCHIVABLE_IDS_SQL, Long.class,
+                status.name(), Timestamp.valueOf(changedBefore), limit);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<Object> lockArgs = new ArrayList<>(candidates.size() + 2);
+        lockArgs.addAll(candidates);
+        lockArgs.add(status.name());
+        lockArgs.add(Timestamp.valueOf(changedBefore));
+        String lockSql = LOCK_ARCHIVABLE_SQL.formatted(String.join(", ", Collections.nCopies(candidates.size(), "?")));
+
+        List<TaskSnapshot> tasks = jdbcTemplate.query(lockSql, (rs, rowNum) -> {
+                    Timestamp dueDate = rs.getTimestamp("due_date");
+                    return new TaskSnapshot(
+                            rs.getLong("id"),
+                            rs.getObject("user_id", Long.class),
+                            rs.getObject("assigned_to_id", Long.class),
+                            status,
+                            status,
+                            dueDate == null ? null : dueDate.toLocalDateTime());
+                },
+                lockArgs.toArray());
+        if (tasks.isEmpty()) {
+            return tasks;
+        }
+        List<Object> ids = tasks.stream().<Object>map(TaskSnapshot::id).toList();
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+
+        List<Object> archiveArgs = new ArrayList<>(ids.size() + 1);
+        archiveArgs.add(Timestamp.valueOf(archivedAt));
+        archiveArgs.addAll(ids);
+        jdbcTemplate.update(ARCHIVE_SQL.formatted(placeholders), archiveArgs.toArray());
+        jdbcTemplate.update("delete from tasks where id in (" + placeholders + ")", ids.toArray());
+        return tasks;
+    }
+}
@@ -0,0 +1,25 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.model.TaskArchive;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<TaskArchive, Long> {
+
+    // Same (created_at, id) keyset as the live task pages; a null argument disables its filter
+    @Query("select a from TaskArchive a where (:userId is null or a.userId = :userId) " +
+            "and (:afterCreatedAt is null or a.createdAt > :afterCreatedAt " +
+            "or (a.createdAt = :afterCreatedAt and a.id > :afterId)) " +
+            "order by a.createdAt, a.id")
+    List<TaskArchive> findPage(@Param("userId") Long userId,
+                               @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                               @Param("afterId") Long afterId,
+                               Limit limit);
+}
@@ -0,0 +1,14 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.model.TaskChangeOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskChangeOutboxRepository extends JpaRepository<TaskChangeOutbox, Long> {
+
+    List<TaskChangeOutbox> findAllByOrderByIdAsc(Limit limit);
+}
@@ -0,0 +1,184 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskPriority;
+import com.dishant.tasks.management.model.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC for bulk task ingestion, the task change outbox, the task export and the search
+ * index rebuild. Ids are IDENTITY generated, which makes Hibernate insert rows one statement
+ * at a time; these inserts go through JDBC batches instead, which the MySQL driver rewrites
+ * into multi-row INSERTs. Entity callbacks do not run here, so callers must populate
+ * timestamps, status and flag themselves. Generated task ids are written back to the given
+ * tasks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into tasks (title, description, status, flag, priority, due_date,
+                               created_at, updated_at, user_id, assigned_to_id, shard, version)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)""";
+
+    private static final String INSERT_CHANGE_SQL = """
+            insert into task_change_outbox (event_type, task_id, owner_id, assignee_id, status,
+                                            previous_status, due_date, occurred_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private static final String EXPORT_SQL = """
+            select t.id, t.title, t.description, t.status, t.due_date, t.created_at, t.updated_at,
+                   t.version, t.flag, u.username, a.username as assigned_to_username, t.priority
+            from tasks t
+            left join users u on u.id = t.user_id
+            left join users a on a.id = t.assigned_to_id
+            order by t.id""";
+
+    private static final String SEARCH_SQL = "select id, user_id, title, description from tasks order by id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${task.ingest.jdbc-batch-size:500}")
+    private int batchSize;
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream the result set row by row
+    @Value("${task.export.fetch-size:-2147483648}")
+    private int exportFetchSize;
+
+    public int insertAll(List<Task> tasks) {
+        for (int from = 0; from < tasks.size(); from += batchSize) {
+            insertBatch(tasks.subList(from, Math.min(from + batchSize, tasks.size())));
+        }
+        return tasks.size();
+    }
+
+    public void insertChanges(TaskChangeType type, List<TaskSnapshot> tasks, LocalDateTime occurredAt) {
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, tasks, batchSize, (ps, task) -> {
+            ps.setString(1, type.name());
+            ps.setLong(2, task.id());
+            ps.setObject(3, task.ownerId(), Types.BIGINT);
+            ps.setObject(4, task.assigneeId(), Types.BIGINT);
+            ps.setString(5, task.status() == null ? null : task.status().name());
+            ps.setString(6, task.previousStatus() == null ? null : task.previousStatus().name());
+            ps.setTimestamp(7, timestamp(task.dueDate()));
+            ps.setTimestamp(8, timestamp(occurredAt));
+        });
+    }
+
+    /**
+     * Hands every task to the callback in id order over a forward-only, read-only cursor, so
+     * no more than one fetch of rows is held in memory. The connection stays busy until the
+     * last row has been read.
+     */
+    public void forEachTask(Consumer<TaskResponse> action) {
+        stream(EXPORT_SQL, rs -> action.accept(mapExportRow(rs)));
+    }
+
+    /** Same cursor as {@link #forEachTask}, reading only what the search index needs. */
+    public void forEachSearchDocument(Consumer<SearchDocument> action) {
+        stream(SEARCH_SQL, rs -> action.accept(new SearchDocument(rs.getLong("id"),
+                rs.getObject("user_id", Long.class), rs.getString("title"), rs.getString("description"))));
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            return ps;
+        }, handler);
+    }
+
+    private void insertBatch(List<Task> batch) {
+        for (Task task : batch) {
+            if (task.getShard() == null) {
+                // Entity callbacks do not run for JDBC inserts, so this mirrors Task.onCreate
+                task.setShard(Task.randomShard());
+            }
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setInsertValues(ps, batch.get(i));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < keys.size(); i++) {
+            // MySQL names the key GENERATED_KEY, other drivers use the column name
+            batch.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            batch.get(i).setVersion(0L);
+        }
+    }
+
+    private static void setInsertValues(PreparedStatement ps, Task task) throws SQLException {
+        ps.setString(1, task.getTitle());
+        ps.setString(2, task.getDescription());
+        ps.setString(3, task.getStatus().name());
+        ps.setString(4, task.getFlag());
+        ps.setString(5, task.getPriority() == null ? null : task.getPriority().name());
+        ps.setTimestamp(6, timestamp(task.getDueDate()));
+        ps.setTimestamp(7, timestamp(task.getCreatedAt()));
+        ps.setTimestamp(8, timestamp(task.getUpdatedAt()));
+        ps.setObject(9, task.getUser() == null ? null : task.getUser().getId(), Types.BIGINT);
+        ps.setObject(10, task.getAssignedTo() == null ? null : task.getAssignedTo().getId(), Types.BIGINT);
+        ps.setInt(11, task.getShard());
+    }
+
+    private static TaskResponse mapExportRow(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        String priority = rs.getString("priority");
+        return TaskResponse.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .description(rs.getString("description"))
+                .status(status == null ? null : TaskStatus.valueOf(status))
+                .dueDate(localDateTime(rs.getTimestamp("due_date")))
+                .createdAt(localDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(localDateTime(rs.getTimestamp("updated_at")))
+                .version(rs.getLong("version"))
+                .flag(rs.getString("flag"))
+                .username(rs.getString("username"))
+                .assignedToUsername(rs.getString("assigned_to_username"))
+                .priority(priority == null ? null : TaskPriority.valueOf(priority))
+                .build();
+    }
+
+    private static LocalDateTime localDateTime(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    public record SearchDocument(Long id, Long ownerId, String title, String description) {
+    }
+}
@@ -2,18 +2,105 @@ package com.dishant.tasks.management.repository;
 
 import com.dishant.tasks.management.model.Task;
 import com.dishant.tasks.management.model.TaskStatus;
-import com.dishant.tasks.management.model.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
-    List<Task> findByDueDateLessThanEqual(LocalDateTime dateTime);
-    List<Task> findByUserAndStatusNot(User user, TaskStatus status);
+    List<Task> findByDueDateLessThanEqualAndStatusNot(LocalDateTime dateTime, TaskStatus status);
+    @EntityGraph(attributePaths = {"user", "assignedTo"})
+    List<Task> findByUserIdAndStatusNot(Long userId, TaskStatus status);
+    @EntityGraph(attributePaths = {"user", "assignedTo"})
     List<Task> findByStatusNot(TaskStatus status);
+    @EntityGraph(attributePaths = {"user", "assignedTo"})
+    Optional<Task> findWithUsersById(Long id);
+    @EntityGraph(attributePaths = {"user", "assignedTo"})
+    List<Task> findWithUsersByIdIn(Collection<Long> ids);
     long countByStatus(TaskStatus status);
+
+    @Query("select t.status as status, count(t) as count from Task t group by t.status")
+    List<StatusCount> countGroupByStatus();
+
+    // Walks one status in (due_date, id) order on idx_tasks_status_due_date_id, so a chunk reads only its
+    // own index entries and completed tasks are never scanned; a null afterDueDate starts from the beginning
+    @Query("select t.id as id, t.dueDate as dueDate from Task t where t.status = :status and t.dueDate <= :dueBefore " +
+            "and (:afterDueDate is null or t.dueDate > :afterDueDate or (t.dueDate = :afterDueDate and t.id > :afterId)) " +
+            "order by t.dueDate, t.id")
+    List<DueTask> findDueTasks(@Param("status") TaskStatus status,
+                               @Param("dueBefore") LocalDateTime dueBefore,
+                               @Param("afterDueDate") LocalDateTime afterDueDate,
+                               @Param("afterId") long afterId,
+                               Limit limit);
+
+    // Same keyset walk as findDueTasks within one shard, on the (status, shard, due_date, id) index
+    @Query("select t.id as id, t.dueDate as dueDate from Task t where t.status = :status and t.shard = :shard " +
+            "and t.dueDate <= :dueBefore " +
+            "and (:afterDueDate is null or t.dueDate > :afterDueDate or (t.dueDate = :afterDueDate and t.id > :afterId)) " +
+            "order by t.dueDate, t.id")
+    List<DueTask> findDueTasksInShard(@Param("status") TaskStatus status,
+                                      @Param("shard") int shard,
+                                      @Param("dueBefore") LocalDateTime dueBefore,
+                                      @Param("afterDueDate") LocalDateTime afterDueDate,
+                                      @Param("afterId") long afterId,
+                                      Limit limit);
+
+    @Query("select t.id as id, t.dueDate as dueDate from Task t " +
+            "where t.dueDate > :dueAfter and t.dueDate <= :dueBefore and t.status <> :closed order by t.dueDate")
+    List<DueTask> findUpcomingDueTasks(@Param("dueAfter") LocalDateTime dueAfter,
+                                       @Param("dueBefore") LocalDateTime dueBefore,
+                                       @Param("closed") TaskStatus closed,
+                                       Limit limit);
+
+    @Query("select t.id from Task t where t.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    // Locks the still open tasks of a chunk so the closing transaction knows exactly which rows it changes.
+    // The due date is checked again because the caller may hold ids whose due date has since moved.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id in :ids and t.status <> :closed and t.dueDate <= :dueBefore")
+    List<Task> lockOpenTasks(@Param("ids") Collection<Long> ids,
+                             @Param("closed") TaskStatus closed,
+                             @Param("dueBefore") LocalDateTime dueBefore);
+
+    // The status predicate makes closure idempotent when several nodes race on the same ids
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :closed, t.updatedAt = :closedAt, t.version = t.version + 1 where t.id in :ids and t.status <> :closed")
+    int closeAll(@Param("ids") Collection<Long> ids,
+                 @Param("closed") TaskStatus closed,
+                 @Param("closedAt") LocalDateTime closedAt);
+
+    // Validator for the task list: any create, update, close or delete in scope changes one of these
+    @Query("select count(t) as count, max(t.updatedAt) as lastUpdatedAt, coalesce(sum(t.version), 0) as versionSum " +
+            "from Task t where t.status <> :closed")
+    ListVersion findListVersion(@Param("closed") TaskStatus closed);
+
+    @Query("select count(t) as count, max(t.updatedAt) as lastUpdatedAt, coalesce(sum(t.version), 0) as versionSum " +
+            "from Task t where t.user.id = :userId and t.status <> :closed")
+    ListVersion findListVersionByUserId(@Param("userId") Long userId, @Param("closed") TaskStatus closed);
+
+    interface DueTask {
+        Long getId();
+        LocalDateTime getDueDate();
+    }
+
+    interface ListVersion {
+        long getCount();
+        LocalDateTime getLastUpdatedAt();
+        long getVersionSum();
+    }
+
+    interface StatusCount {
+        TaskStatus getStatus();
+        long getCount();
+    }
 }
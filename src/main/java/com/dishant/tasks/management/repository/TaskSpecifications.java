@@ -0,0 +1,81 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.dto.TaskCursor;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskPriority;
+import com.dishant.tasks.management.model.TaskStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Building blocks for the filtered, keyset-paginated task listing. Every predicate is
+ * only added when its filter is present so MySQL can pick the matching composite index
+ * declared on {@link Task}.
+ */
+public final class TaskSpecifications {
+
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    // Fetched together with each page so mapping to TaskResponse needs no extra user selects
+    public static final List<String> TASK_USER_ASSOCIATIONS = List.of("user", "assignedTo");
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> createdBy(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Task> assignedTo(Long userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("assignedTo").get("id"), userId);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        // The list endpoint has always hidden completed tasks unless they are asked for explicitly
+        return (root, query, cb) -> status == null
+                ? cb.notEqual(root.get("status"), TaskStatus.COMPLETED)
+                : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> hasFlag(String flag) {
+        return (root, query, cb) -> flag == null ? null : cb.equal(root.get("flag"), flag);
+    }
+
+    public static Specification<Task> dueBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get("dueDate"), from, to);
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+            }
+            return to == null ? null : cb.lessThanOrEqualTo(root.get("dueDate"), to);
+        };
+    }
+
+    /**
+     * Seeks past the last row of the previous page using the {@code (createdAt, id)} keyset,
+     * matching the descending {@link #KEYSET_SORT}.
+     */
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.dishant.tasks.management.scheduler;
+
+public enum ClosureMode {
+    BULK,
+    PER_TASK,
+    SHARDED
+}
@@ -0,0 +1,146 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskRepository;
+import com.dishant.tasks.management.service.TaskService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes tasks within about one tick of their due date instead of waiting for the cron sweep.
+ * Tasks due within the next {@code window} are held in a {@link TimingWheel}; the wheel is
+ * filled from the database on startup and every {@code refill-interval}, and kept current
+ * from the task changes {@link com.dishant.tasks.management.service.TaskChangeBroadcaster}
+ * delivers to every node. The {@link TaskSchedulerService} sweep still runs and closes
+ * anything the wheel missed, e.g. while a node was down or past the {@code capacity} a
+ * refill loads.
+ *
+ * <p>Each node runs its own wheel, so several nodes may try to close the same task at once;
+ * {@link TaskService#closeExpiredTasks} locks the rows and rechecks the due date, so only
+ * one of them changes anything.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DueTaskTimer {
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+
+    @Value("${scheduler.timer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${scheduler.timer.tick:1s}")
+    private Duration tick;
+
+    @Value("${scheduler.timer.wheel-size:64}")
+    private int wheelSize;
+
+    @Value("${scheduler.timer.window:1h}")
+    private Duration window;
+
+    @Value("${scheduler.timer.capacity:100000}")
+    private int capacity;
+
+    private TimingWheel wheel;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        wheel = new TimingWheel(tick.toMillis(), wheelSize, window.toMillis(), System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "due-task-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${scheduler.timer.refill-interval:5m}", initialDelayString = "${scheduler.timer.refill-interval:5m}")
+    public void refill() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskRepository.DueTask> upcoming = taskRepository.findUpcomingDueTasks(now, now.plus(window),
+                TaskStatus.COMPLETED, Limit.of(capacity));
+        synchronized (this) {
+            upcoming.forEach(task -> wheel.schedule(task.getId(), toMillis(task.getDueDate())));
+        }
+        log.info("Due task timer holds {} tasks due within {}", size(), window);
+    }
+
+    /** Tracks due date changes; called on every node for every committed task change. */
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        boolean removed = event.type() == TaskChangeType.CLOSED || event.type() == TaskChangeType.DELETED
+                || event.type() == TaskChangeType.ARCHIVED;
+        synchronized (this) {
+            for (TaskSnapshot task : event.tasks()) {
+                if (removed || task.status() == TaskStatus.COMPLETED || task.dueDate() == null) {
+                    wheel.cancel(task.id());
+                } else {
+                    // A due date moved past the window drops the task until a later refill
+                    wheel.schedule(task.id(), toMillis(task.dueDate()));
+                }
+            }
+        }
+    }
+
+    void tick() {
+        List<Long> due;
+        synchronized (this) {
+            due = wheel.advance(System.currentTimeMillis());
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            int closed = taskService.closeExpiredTasks(due);
+            log.debug("Due task timer closed {} of {} tasks", closed, due.size());
+        } catch (Exception e) {
+            // Left for the next sweep
+            log.warn("Due task timer failed to close {} tasks: {}", due.size(), e.getMessage());
+        }
+    }
+
+    synchronized int size() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    private static long toMillis(LocalDateTime dueDate) {
+        return dueDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
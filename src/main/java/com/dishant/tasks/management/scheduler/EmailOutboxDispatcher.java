@@ -0,0 +1,130 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.EmailOutbox;
+import com.dishant.tasks.management.service.EmailService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the email outbox. Each poll claims up to {@code workers * batch-size} due messages
+ * and splits them across the worker pool; a worker hands its whole batch to one
+ * {@link JavaMailSender#send(SimpleMailMessage...)} call, which delivers it over a single
+ * SMTP connection. Messages the server rejects are retried with backoff by
+ * {@link EmailService#markFailed}; polling continues while full batches keep coming back.
+ */
+@Component
+@ConditionalOnProperty(name = "email.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class EmailOutboxDispatcher {
+
+    private final EmailService emailService;
+    private final JavaMailSender javaMailSender;
+
+    @Value("${email.outbox.workers:4}")
+    private int workers;
+
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${email.outbox.from:}")
+    private String from;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void startWorkers() {
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopWorkers() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // Unfinished messages stay claimed until their lease runs out, then go out again
+            executor.shutdownNow();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:2s}")
+    public void dispatch() {
+        int claimSize = workers * batchSize;
+        List<EmailOutbox> claimed;
+        do {
+            claimed = emailService.claimDue(claimSize);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            log.debug("Claimed {} outbound emails", claimed.size());
+
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            for (int start = 0; start < claimed.size(); start += batchSize) {
+                List<EmailOutbox> batch = claimed.subList(start, Math.min(start + batchSize, claimed.size()));
+                batches.add(CompletableFuture.runAsync(() -> deliver(batch), executor));
+            }
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+        } while (claimed.size() == claimSize);
+    }
+
+    void deliver(List<EmailOutbox> batch) {
+        Map<SimpleMailMessage, Long> ids = new IdentityHashMap<>();
+        for (EmailOutbox email : batch) {
+            ids.put(toMessage(email), email.getId());
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        try {
+            javaMailSender.send(ids.keySet().toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                ids.values().forEach(id -> failures.put(id, e.getMessage()));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> failures.put(ids.get(message), cause.getMessage()));
+            }
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing in the batch went out
+            ids.values().forEach(id -> failures.put(id, e.getMessage()));
+        }
+
+        List<Long> sent = new ArrayList<>(ids.values());
+        sent.removeAll(failures.keySet());
+        emailService.markSent(sent);
+        emailService.markFailed(failures);
+        log.info("Delivered {} of {} outbound emails", sent.size(), batch.size());
+    }
+
+    private SimpleMailMessage toMessage(EmailOutbox email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        if (!from.isBlank()) {
+            message.setFrom(from);
+        }
+        message.setTo(email.getRecipient());
+        message.setSubject(email.getSubject());
+        message.setText(email.getBody());
+        return message;
+    }
+}
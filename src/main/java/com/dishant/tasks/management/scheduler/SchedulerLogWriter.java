@@ -0,0 +1,169 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.SchedulerLog;
+import com.dishant.tasks.management.repository.SchedulerLogJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers scheduler log rows and writes them in JDBC batches, so the closure loop never waits
+ * on a per-row insert. A batch goes out as soon as {@code batch-size} rows are queued, and
+ * whatever is left every {@code flush-interval}. When the queue is full the caller waits up to
+ * {@code flush-interval} for room and then writes it out itself instead of dropping rows; the
+ * queue is drained on shutdown, and rows appended after that are written by the caller. A batch
+ * that fails to write is retried on later flushes and dropped after {@code max-attempts}
+ * scheduled flushes have failed, so a burst of appends cannot use up its attempts at once.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SchedulerLogWriter {
+
+    private final SchedulerLogJdbcRepository schedulerLogJdbcRepository;
+
+    @Value("${scheduler.log.capacity:10000}")
+    private int capacity;
+
+    @Value("${scheduler.log.batch-size:500}")
+    private int batchSize;
+
+    @Value("${scheduler.log.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${scheduler.log.flush-interval:1s}")
+    private Duration flushInterval;
+
+    private BlockingQueue<SchedulerLog> queue;
+    private ExecutorService flusher;
+    private final AtomicBoolean flushQueued = new AtomicBoolean();
+    // Not synchronized: flush runs JDBC, and a monitor held across I/O pins a virtual thread
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Guarded by flushLock
+    private List<SchedulerLog> failedBatch = List.of();
+    private int failedAttempts;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(30, TimeUnit.SECONDS);
+        flush();
+    }
+
+    public void append(SchedulerLog schedulerLog) {
+        try {
+            while (!queue.offer(schedulerLog, flushInterval.toMillis(), TimeUnit.MILLISECONDS)) {
+                flush(false);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write(List.of(schedulerLog));
+            return;
+        }
+        if (flusher.isShutdown()) {
+            // stop() has already drained the queue, so nothing else will write this row
+            flush(false);
+            return;
+        }
+        if (queue.size() >= batchSize && flushQueued.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    flushQueued.set(false);
+                    flush(false);
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down; stop() drains the queue
+                flushQueued.set(false);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${scheduler.log.flush-interval:1s}")
+    public void flush() {
+        flush(true);
+    }
+
+    /**
+     * Writes out the failed batch and then the queue. Only the scheduled flush counts a failed
+     * write towards {@code max-attempts}; flushes triggered by appends retry without counting.
+     */
+    private void flush(boolean countAttempt) {
+        flushLock.lock();
+        try {
+            if (!failedBatch.isEmpty() && !retryFailedBatch(countAttempt)) {
+                return;
+            }
+            List<SchedulerLog> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                if (!write(batch)) {
+                    // Leave the rest queued until the database is back
+                    failedBatch = batch;
+                    failedAttempts = countAttempt ? 1 : 0;
+                    return;
+                }
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean retryFailedBatch(boolean countAttempt) {
+        if (write(failedBatch)) {
+            failedBatch = List.of();
+            return true;
+        }
+        if (!countAttempt || ++failedAttempts < maxAttempts) {
+            return false;
+        }
+        log.error("Dropping {} scheduler log rows after {} failed attempts", failedBatch.size(), failedAttempts);
+        failedBatch = List.of();
+        return true;
+    }
+
+    private boolean write(List<SchedulerLog> batch) {
+        try {
+            schedulerLogJdbcRepository.insertAll(batch);
+            log.debug("Wrote {} scheduler log rows", batch.size());
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to write {} scheduler log rows: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    int pending() {
+        flushLock.lock();
+        try {
+            return queue.size() + failedBatch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
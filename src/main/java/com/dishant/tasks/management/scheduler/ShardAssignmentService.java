@@ -0,0 +1,149 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.Task;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Shares the closure shards out between the live scheduler nodes for {@link ClosureMode#SHARDED}.
+ * Each node heartbeats into a Redis sorted set scored by when its membership expires, and every
+ * shard belongs to the live node that ranks highest for it under rendezvous hashing, so a node
+ * joining or leaving only moves the shards it wins or held. The node that ranks second for a
+ * shard takes it over only once nobody has swept it for {@code orphan-after}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ShardAssignmentService {
+
+    static final String NODES_KEY = "scheduler:closure:nodes";
+    static final String SWEPT_KEY_PREFIX = "scheduler:closure:swept:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${scheduler.closure.mode:bulk}")
+    private ClosureMode closureMode;
+
+    @Value("${scheduler.closure.membership-ttl:3m}")
+    private Duration membershipTtl;
+
+    @Value("${scheduler.closure.orphan-after:2h}")
+    private Duration orphanAfter;
+
+    @Scheduled(fixedDelayString = "${scheduler.closure.heartbeat-interval:1m}")
+    public void heartbeat() {
+        if (closureMode != ClosureMode.SHARDED) {
+            return;
+        }
+        try {
+            register();
+        } catch (Exception e) {
+            log.warn("Failed to renew closure shard membership for node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (closureMode != ClosureMode.SHARDED) {
+            return;
+        }
+        try {
+            // Hands this node's shards to the others now instead of after the membership expires
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to leave closure shard membership for node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * Renews this node's membership and works out which shards it should sweep. If Redis cannot
+     * be reached every shard is returned as owned; the shard leases still keep nodes apart.
+     */
+    public Assignment assign() {
+        List<String> nodes;
+        try {
+            long now = register();
+            Set<String> live = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, now, Double.POSITIVE_INFINITY);
+            nodes = live == null ? List.of() : new ArrayList<>(live);
+        } catch (Exception e) {
+            log.warn("Failed to read closure shard membership, trying every shard: {}", e.getMessage());
+            nodes = List.of();
+        }
+        if (!nodes.contains(nodeId)) {
+            nodes = new ArrayList<>(nodes);
+            nodes.add(nodeId);
+        }
+
+        List<Integer> owned = new ArrayList<>();
+        List<Integer> orphanCandidates = new ArrayList<>();
+        for (int shard = 0; shard < Task.SHARD_COUNT; shard++) {
+            int s = shard;
+            List<String> ranked = nodes.stream()
+                    .sorted(Comparator.comparingLong((String node) -> rank(node, s)).reversed())
+                    .toList();
+            if (ranked.get(0).equals(nodeId)) {
+                owned.add(shard);
+            } else if (ranked.size() > 1 && ranked.get(1).equals(nodeId)) {
+                orphanCandidates.add(shard);
+            }
+        }
+
+        List<Integer> orphaned = orphanCandidates.stream().filter(shard -> !recentlySwept(shard)).toList();
+        log.debug("Node {} of {} live nodes owns {} shards, {} orphaned shards to take over",
+                nodeId, nodes.size(), owned.size(), orphaned.size());
+        return new Assignment(owned, orphaned);
+    }
+
+    /** Records that a shard was swept, which keeps its second-choice node from taking it over. */
+    public void markSwept(int shard) {
+        try {
+            redisTemplate.opsForValue().set(SWEPT_KEY_PREFIX + shard, nodeId, orphanAfter);
+        } catch (Exception e) {
+            log.warn("Failed to mark closure shard {} as swept: {}", shard, e.getMessage());
+        }
+    }
+
+    private long register() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now + membershipTtl.toMillis());
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now);
+        return now;
+    }
+
+    private boolean recentlySwept(int shard) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(SWEPT_KEY_PREFIX + shard));
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+    // Rendezvous weight of a node for a shard: the murmur3 finalizer over both, so the
+    // ranking of nodes differs from shard to shard
+    static long rank(String node, int shard) {
+        long h = node.hashCode() * 0x9E3779B97F4A7C15L + shard;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE53A7F25L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public record Assignment(List<Integer> owned, List<Integer> orphaned) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.TaskChangeOutbox;
+import com.dishant.tasks.management.service.TaskChangeOutboxService;
+import com.example.kafka.avro.TaskChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes the task change outbox to Kafka. Only one node relays at a time (ShedLock), so
+ * changes go out in outbox order; each batch is sent in full, and rows are deleted only
+ * once the broker has acknowledged every record in it. A failed batch is sent again on the
+ * next run, which makes delivery at least once.
+ */
+@Component
+@ConditionalOnProperty(name = "task.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class TaskChangeRelay {
+
+    private final TaskChangeOutboxService outboxService;
+    private final KafkaTemplate<String, TaskChangeEvent> taskChangeKafkaTemplate;
+
+    @Value("${task.outbox.topic:task-changes}")
+    private String topic;
+
+    @Value("${task.outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    @Value("${task.outbox.relay.send-timeout:30s}")
+    private Duration sendTimeout;
+
+    @Scheduled(fixedDelayString = "${task.outbox.relay.poll-interval:500ms}")
+    @SchedulerLock(name = "relayTaskChanges", lockAtMostFor = "5m")
+    public void relay() {
+        List<TaskChangeOutbox> batch;
+        do {
+            batch = outboxService.nextBatch(batchSize);
+            if (batch.isEmpty() || !publish(batch)) {
+                return;
+            }
+            outboxService.markPublished(batch.stream().map(TaskChangeOutbox::getId).toList());
+            log.debug("Published {} task changes to {}", batch.size(), topic);
+        } while (batch.size() == batchSize);
+    }
+
+    private boolean publish(List<TaskChangeOutbox> batch) {
+        CompletableFuture<?>[] sends = batch.stream()
+                .map(change -> taskChangeKafkaTemplate.send(topic, String.valueOf(change.getTaskId()), toEvent(change)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Publishing {} task changes to {} failed, will retry: {}", batch.size(), topic, e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static TaskChangeEvent toEvent(TaskChangeOutbox change) {
+        return TaskChangeEvent.newBuilder()
+                .setEventId(change.getId())
+                .setEventType(change.getEventType().name())
+                .setTaskId(change.getTaskId())
+                .setOwnerId(change.getOwnerId())
+                .setAssigneeId(change.getAssigneeId())
+                .setStatus(change.getStatus() == null ? null : change.getStatus().name())
+                .setPreviousStatus(change.getPreviousStatus() == null ? null : change.getPreviousStatus().name())
+                .setDueDate(Objects.toString(change.getDueDate(), null))
+                .setOccurredAt(change.getOccurredAt().toString())
+                .build();
+    }
+}
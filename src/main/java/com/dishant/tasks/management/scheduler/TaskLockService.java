@@ -7,14 +7,11 @@ import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.core.LockConfiguration;
 import net.javacrumbs.shedlock.core.LockProvider;
 import net.javacrumbs.shedlock.core.SimpleLock;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
-import java.util.Set;
 
 @Service
 @Slf4j
@@ -23,7 +20,6 @@ public class TaskLockService {
 
     private final LockProvider lockProvider;
     private final TaskService taskService;
-    private RedisTemplate<String, String> redisTemplate;
 
     public boolean lockAndExecuteTask(Task task) {
         String lockName = "closeTaskWithDueDateCompletion_"+ task.getId();
@@ -37,12 +33,6 @@ public class TaskLockService {
         log.info("Attempting to acquire lock for task: {}", task.getId());
 
         Optional<SimpleLock> lock = lockProvider.lock(lockConfig);
-        ValueOperations<String, String> valueOps = redisTemplate.opsForValue();
-        Set<String> keys = redisTemplate.keys("*");
-        for (String key : keys) {
-            String value = valueOps.get(key);
-            log.info("Redis Key: {}, with Value: {}", key, value);
-        }
         if (lock.isPresent()) {
             try {
                 log.info("Lock acquired successfully for task id: {}", task.getId());
@@ -58,4 +48,13 @@ public class TaskLockService {
             return false;
         }
     }
+
+    /**
+     * Leases one shard of the due-task keyspace to this node. The lease is held for at least
+     * {@code minHold} after release so that nodes whose cron fires a little later skip shards
+     * that were already swept in this run.
+     */
+    public Optional<SimpleLock> leaseShard(int shard, Duration maxHold, Duration minHold) {
+        return lockProvider.lock(new LockConfiguration(Instant.now(), "closeDueTasksShard_" + shard, maxHold, minHold));
+    }
 }
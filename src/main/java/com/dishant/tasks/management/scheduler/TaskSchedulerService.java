@@ -2,38 +2,80 @@ package com.dishant.tasks.management.scheduler;
 
 import com.dishant.tasks.management.model.SchedulerLog;
 import com.dishant.tasks.management.model.Task;
-import com.dishant.tasks.management.repository.SchedulerLogRepository;
+import com.dishant.tasks.management.model.TaskStatus;
 import com.dishant.tasks.management.repository.TaskRepository;
-import lombok.AllArgsConstructor;
+import com.dishant.tasks.management.service.TaskService;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
 
 @Configuration
 @Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class TaskSchedulerService {
 
-    private TaskLockService taskLockService;
-    private TaskRepository taskRepository;
-    private SchedulerLogRepository schedulerLogRepository;
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(TaskStatus.COMPLETED));
+
+    private final TaskLockService taskLockService;
+    private final ShardAssignmentService shardAssignmentService;
+    private final TaskService taskService;
+    private final TaskRepository taskRepository;
+    private final SchedulerLogWriter schedulerLogWriter;
+
+    @Value("${scheduler.closure.mode:bulk}")
+    private ClosureMode closureMode;
+
+    @Value("${scheduler.closure.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${scheduler.closure.shard-lease:10m}")
+    private Duration shardLease;
+
+    @Value("${scheduler.closure.shard-min-hold:30s}")
+    private Duration shardMinHold;
 
     @Scheduled(cron = "${scheduler.cron}")
     public void runScheduler() {
         Timestamp startTime = new Timestamp(System.currentTimeMillis());
-        log.info("Scheduler running now...");
-
-        List<Task> dueTasks = taskRepository.findByDueDateLessThanEqual(LocalDateTime.now());
-        log.info("Total tasks found for closure with due date: {}", dueTasks.size());
+        log.info("Scheduler running now in {} mode...", closureMode);
 
         String systemName = getSystemHostName();
 
+        if (closureMode == ClosureMode.BULK) {
+            LocalDateTime dueBefore = LocalDateTime.now();
+            int closed = 0;
+            for (TaskStatus status : OPEN_STATUSES) {
+                closed += closeDueTasksInChunks(systemName, " with status " + status,
+                        last -> taskRepository.findDueTasks(status, dueBefore, last == null ? null : last.getDueDate(),
+                                last == null ? 0 : last.getId(), Limit.of(chunkSize)));
+            }
+            log.info("Bulk closure finished, {} tasks closed", closed);
+            return;
+        }
+        if (closureMode == ClosureMode.SHARDED) {
+            closeDueTasksByShard(systemName);
+            return;
+        }
+
+        List<Task> dueTasks = taskRepository.findByDueDateLessThanEqualAndStatusNot(LocalDateTime.now(), TaskStatus.COMPLETED);
+        log.info("Total tasks found for closure with due date: {}", dueTasks.size());
+
         for (Task task : dueTasks) {
             log.info("Attempting to put lock on and close the task with id: {}", task.getId());
             boolean success = taskLockService.lockAndExecuteTask(task);
@@ -54,6 +96,93 @@ public class TaskSchedulerService {
         }
     }
 
+    /**
+     * Sweeps the shards {@link ShardAssignmentService} gives this node, using each task's stored
+     * {@link Task#getShard() shard}, then any orphaned shards it should take over. Every shard is
+     * leased in Redis while it is swept, so a shard that moved between nodes mid-run is not swept
+     * twice; a shard whose lease is held elsewhere is skipped without a log row.
+     */
+    private void closeDueTasksByShard(String systemName) {
+        LocalDateTime dueBefore = LocalDateTime.now();
+        ShardAssignmentService.Assignment assignment = shardAssignmentService.assign();
+        int sweptShards = 0;
+        int totalClosed = 0;
+
+        for (int shard : assignment.owned()) {
+            OptionalInt closed = sweepShard(systemName, shard, dueBefore);
+            if (closed.isPresent()) {
+                sweptShards++;
+                totalClosed += closed.getAsInt();
+            }
+        }
+        for (int shard : assignment.orphaned()) {
+            log.info("Shard {} has not been swept recently, taking it over", shard);
+            OptionalInt closed = sweepShard(systemName, shard, dueBefore);
+            if (closed.isPresent()) {
+                sweptShards++;
+                totalClosed += closed.getAsInt();
+            }
+        }
+        log.info("Sharded closure finished, {} shards swept ({} owned, {} orphaned) and {} tasks closed on this node",
+                sweptShards, assignment.owned().size(), assignment.orphaned().size(), totalClosed);
+    }
+
+    /** Returns the number of tasks closed, or empty if another node holds the shard's lease. */
+    private OptionalInt sweepShard(String systemName, int shard, LocalDateTime dueBefore) {
+        Optional<SimpleLock> lease = taskLockService.leaseShard(shard, shardLease, shardMinHold);
+        if (lease.isEmpty()) {
+            log.debug("Shard {} is leased by another node, skipping it", shard);
+            return OptionalInt.empty();
+        }
+        try {
+            int closed = 0;
+            for (TaskStatus status : OPEN_STATUSES) {
+                closed += closeDueTasksInChunks(systemName,
+                        String.format(" with status %s in shard %d/%d", status, shard, Task.SHARD_COUNT),
+                        last -> taskRepository.findDueTasksInShard(status, shard, dueBefore,
+                                last == null ? null : last.getDueDate(), last == null ? 0 : last.getId(),
+                                Limit.of(chunkSize)));
+            }
+            shardAssignmentService.markSwept(shard);
+            return OptionalInt.of(closed);
+        } finally {
+            lease.get().unlock();
+        }
+    }
+
+    /**
+     * Closes every expired task with one conditional UPDATE per chunk of ids. No per-task
+     * lock is needed: a task already closed by another node simply no longer matches.
+     * {@code nextChunk} is given the last task of the previous chunk, or null for the first.
+     */
+    private int closeDueTasksInChunks(String systemName, String scope, Function<TaskRepository.DueTask, List<TaskRepository.DueTask>> nextChunk) {
+        TaskRepository.DueTask last = null;
+        int totalClosed = 0;
+
+        while (true) {
+            Timestamp chunkStart = new Timestamp(System.currentTimeMillis());
+            List<TaskRepository.DueTask> chunk = nextChunk.apply(last);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = chunk.stream().map(TaskRepository.DueTask::getId).toList();
+            int closed = taskService.closeExpiredTasks(ids);
+            totalClosed += closed;
+            last = chunk.getLast();
+            Long firstId = ids.getFirst();
+            Long lastId = last.getId();
+
+            String remarks = String.format("Bulk closed %d of %d due tasks with ids %d-%d%s.", closed, ids.size(), firstId, lastId, scope);
+            logSchedulerJobExecution(systemName, null, "SUCCESS", chunkStart, new Timestamp(System.currentTimeMillis()), remarks);
+
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        return totalClosed;
+    }
+
     public void logSchedulerJobExecution(String systemName, Long taskId, String status, Timestamp startTime, Timestamp endTime, String remarks) {
         log.info("Scheduler Execution - System Name: {}, Task ID: {}, Status: {}, Start Time: {}, End Time: {}, Remarks: {}", systemName, taskId, status, startTime, endTime, remarks);
         SchedulerLog schedulerLog = SchedulerLog.builder()
@@ -65,7 +194,7 @@ public class TaskSchedulerService {
                 .remarks(remarks)
                 .build();
 
-        schedulerLogRepository.save(schedulerLog);
+        schedulerLogWriter.append(schedulerLog);
     }
 
     private String getSystemHostName() {
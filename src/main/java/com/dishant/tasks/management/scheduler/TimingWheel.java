@@ -0,0 +1,131 @@
+package com.dishant.tasks.management.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hierarchical timing wheel keyed by task id. Level 0 has one bucket per tick; each level
+ * above has buckets {@code wheelSize} times as wide, and a bucket is cascaded down into the
+ * finer levels when the clock reaches it. Scheduling, rescheduling and cancelling are O(1)
+ * and each tick only touches the buckets it passes.
+ *
+ * <p>Buckets may hold stale ids after a reschedule or cancel; an id only fires while its
+ * entry in {@code deadlines} is still due at that tick. Not thread safe.
+ */
+final class TimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Set<Long>>> levels = new ArrayList<>();
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    private final long horizonTicks;
+    private long currentTick;
+
+    TimingWheel(long tickMillis, int wheelSize, long horizonMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        long needed = Math.floorDiv(horizonMillis + tickMillis - 1, tickMillis);
+        // The top level can use every bucket but the current one
+        long reach = wheelSize - 1;
+        do {
+            List<Set<Long>> buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new HashSet<>());
+            }
+            levels.add(buckets);
+            if (reach >= needed) {
+                break;
+            }
+            reach *= wheelSize;
+        } while (true);
+        this.horizonTicks = reach;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedules or reschedules an id. Returns false, leaving the id unscheduled, when the
+     * deadline lies beyond the wheel's horizon.
+     */
+    boolean schedule(long id, long deadlineMillis) {
+        // Rounded up so that an id never fires before its deadline
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        if (deadlineTick - currentTick >= horizonTicks) {
+            deadlines.remove(id);
+            return false;
+        }
+        deadlines.put(id, deadlineTick);
+        place(id, deadlineTick);
+        return true;
+    }
+
+    void cancel(long id) {
+        deadlines.remove(id);
+    }
+
+    int size() {
+        return deadlines.size();
+    }
+
+    /** Moves the clock to {@code nowMillis} and returns the ids that fell due on the way. */
+    List<Long> advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        List<Long> due = new ArrayList<>();
+        while (currentTick <= nowTick) {
+            cascade();
+            Set<Long> bucket = levels.get(0).get((int) (currentTick % wheelSize));
+            for (Long id : bucket) {
+                Long deadlineTick = deadlines.get(id);
+                if (deadlineTick != null && deadlineTick <= currentTick) {
+                    deadlines.remove(id);
+                    due.add(id);
+                }
+            }
+            bucket.clear();
+            currentTick++;
+        }
+        return due;
+    }
+
+    private void cascade() {
+        for (int level = levels.size() - 1; level > 0; level--) {
+            long span = pow(level);
+            if (currentTick % span != 0) {
+                continue;
+            }
+            Set<Long> bucket = levels.get(level).get((int) ((currentTick / span) % wheelSize));
+            List<Long> ids = new ArrayList<>(bucket);
+            bucket.clear();
+            for (Long id : ids) {
+                Long deadlineTick = deadlines.get(id);
+                if (deadlineTick != null) {
+                    place(id, deadlineTick);
+                }
+            }
+        }
+    }
+
+    private void place(long id, long deadlineTick) {
+        long tick = Math.max(deadlineTick, currentTick);
+        int top = levels.size() - 1;
+        for (int level = 0; level <= top; level++) {
+            long span = pow(level);
+            // A level takes the deadline once every coarser digit matches the clock's
+            if (level == top || tick / (span * wheelSize) == currentTick / (span * wheelSize)) {
+                levels.get(level).get((int) ((tick / span) % wheelSize)).add(id);
+                return;
+            }
+        }
+    }
+
+    private long pow(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            span *= wheelSize;
+        }
+        return span;
+    }
+}
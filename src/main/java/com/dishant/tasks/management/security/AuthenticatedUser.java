@@ -0,0 +1,26 @@
+package com.dishant.tasks.management.security;
+
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.User;
+
+import java.security.Principal;
+
+/**
+ * Lightweight principal built from token claims, carrying just enough to authorize
+ * task access without loading the {@link User} entity.
+ */
+public record AuthenticatedUser(Long id, String username, Role role) implements Principal {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole());
+    }
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,16 @@
+package com.dishant.tasks.management.security;
+
+import com.dishant.tasks.management.model.Role;
+
+import java.time.Instant;
+
+/**
+ * Verified claims of a parsed token. {@code userId} and {@code role} are null for tokens
+ * issued before they were embedded.
+ */
+public record JwtClaims(String subject, Long userId, Role role, Instant issuedAt, Instant expiresAt) {
+
+    public boolean hasAuthorizationClaims() {
+        return userId != null && role != null;
+    }
+}
@@ -3,6 +3,7 @@ package com.dishant.tasks.management.security;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -15,6 +16,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -23,7 +25,8 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
-
+    private final UserPrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -48,22 +51,18 @@ public class JwtFilter extends OncePerRequestFilter {
             }
 
             final String jwt = authHeader.substring(7);
-            final String username = jwtService.extractUsername(jwt);
+            final JwtClaims claims = jwtService.parse(jwt);
+            final String username = claims.subject();
             log.debug("Extracted username from token: {}", username);
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UsernamePasswordAuthenticationToken authToken =
+                        claims.hasAuthorizationClaims() && !tokenRevocationService.isRevoked(claims)
+                                ? statelessAuthentication(claims)
+                                : userBackedAuthentication(claims);
 
-                if (jwtService.isValid(jwt, userDetails)) {
+                if (authToken != null) {
                     log.info("JWT validated successfully for user: {}", username);
-
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails,
-                                    null,
-                                    userDetails.getAuthorities()
-                            );
-
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 } else {
@@ -78,6 +77,39 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UsernamePasswordAuthenticationToken statelessAuthentication(JwtClaims claims) {
+        log.debug("Authorizing user {} from token claims", claims.subject());
+        AuthenticatedUser principal = new AuthenticatedUser(claims.userId(), claims.subject(), claims.role());
+        return new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()))
+        );
+    }
+
+    private UsernamePasswordAuthenticationToken userBackedAuthentication(JwtClaims claims) {
+        UserDetails userDetails = loadUser(claims.subject());
+        if (!jwtService.isValid(claims, userDetails)) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+    }
+
+    private UserDetails loadUser(String username) {
+        return principalCache.get(username)
+                .map(UserDetails.class::cast)
+                .orElseGet(() -> {
+                    log.debug("Principal cache miss for user: {}", username);
+                    CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(username);
+                    principalCache.put(username, userDetails);
+                    return userDetails;
+                });
+    }
+
     private boolean isPublicPath(String path) {
         return path.startsWith("/v1/api/auth")
                 || path.startsWith("/actuator")
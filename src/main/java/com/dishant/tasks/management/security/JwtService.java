@@ -1,8 +1,11 @@
 
 package com.dishant.tasks.management.security;
 
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,33 +19,65 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtService {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private long expiration;
 
+    // Both are immutable and thread-safe, so they are built once instead of per token
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     public String generateToken(UserDetails userDetails) {
-        String username = ((UserDetails) userDetails).getUsername();
-        return Jwts.builder()
-                .subject(username)
+        JwtBuilder builder = Jwts.builder()
+                .subject(userDetails.getUsername())
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(Keys.hmacShaKeyFor(secret.getBytes()), Jwts.SIG.HS256)
-                .compact();
+                .expiration(new Date(System.currentTimeMillis() + expiration));
+
+        if (userDetails instanceof CustomUserDetails customUserDetails) {
+            User user = customUserDetails.getUser();
+            builder.claim(USER_ID_CLAIM, user.getId());
+            if (user.getRole() != null) {
+                builder.claim(ROLE_CLAIM, user.getRole().name());
+            }
+        }
+
+        return builder.signWith(signingKey, Jwts.SIG.HS256).compact();
+    }
+
+    /**
+     * Verifies the signature and expiry of the token and returns its claims. Throws a
+     * {@link JwtException} when the token is malformed, tampered with or expired.
+     */
+    public JwtClaims parse(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        String role = claims.get(ROLE_CLAIM, String.class);
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get(USER_ID_CLAIM, Long.class),
+                role != null ? Role.valueOf(role) : null,
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
     }
 
     public String extractUsername(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parse(token).subject();
     }
 
-    public boolean isValid(String token, UserDetails userDetails) {
-        return extractUsername(token).equals(userDetails.getUsername());
+    public boolean isValid(JwtClaims claims, UserDetails userDetails) {
+        return claims.subject().equals(userDetails.getUsername());
     }
 }
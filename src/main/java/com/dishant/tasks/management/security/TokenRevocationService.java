@@ -0,0 +1,49 @@
+package com.dishant.tasks.management.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Tracks, per user, the instant before which token claims (id and role) can no longer be
+ * trusted on their own. Such tokens are not rejected; JwtFilter resolves them against the
+ * database instead, so a role change or deletion takes effect on the next request.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final String KEY_PREFIX = "auth:revoked-before:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${jwt.expiration}")
+    private long expiration;
+
+    public void revoke(Long userId) {
+        try {
+            // Tokens older than the expiration are rejected anyway, so the marker can expire with them
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, String.valueOf(System.currentTimeMillis()),
+                    Duration.ofMillis(expiration));
+            log.info("Revoked token claims issued so far for user id: {}", userId);
+        } catch (DataAccessException e) {
+            log.error("Failed to revoke token claims for user id {}: {}", userId, e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        try {
+            String revokedBefore = redisTemplate.opsForValue().get(KEY_PREFIX + claims.userId());
+            return revokedBefore != null && claims.issuedAt().toEpochMilli() <= Long.parseLong(revokedBefore);
+        } catch (DataAccessException e) {
+            log.warn("Revocation check unavailable, falling back to database lookup: {}", e.getMessage());
+            return true;
+        }
+    }
+}
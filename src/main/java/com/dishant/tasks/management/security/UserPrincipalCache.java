@@ -0,0 +1,55 @@
+package com.dishant.tasks.management.security;
+
+import com.dishant.tasks.management.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived, in-process cache of authenticated principals keyed by JWT subject, so that
+ * repeated requests with the same token do not reload the user from MySQL. Entries are
+ * evicted explicitly whenever a user's role, credentials or profile change; other nodes
+ * pick up such changes once their entry expires.
+ *
+ * <p>The cache keeps its own copy of each user and hands every caller a fresh one, so a
+ * request that edits the entity it was given cannot change what other requests see.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    // Bounded LRU with a TTL, so a full cache sheds its least recently used principals
+    // instead of dropping every entry at once
+    private final Cache<String, CustomUserDetails> entries;
+
+    public UserPrincipalCache(@Value("${security.principal-cache.ttl:30s}") Duration ttl,
+                              @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<CustomUserDetails> get(String subject) {
+        return Optional.ofNullable(entries.getIfPresent(subject)).map(UserPrincipalCache::copyOf);
+    }
+
+    public void put(String subject, CustomUserDetails userDetails) {
+        entries.put(subject, copyOf(userDetails));
+    }
+
+    public void evict(User user) {
+        // A user may be cached under both their username and email, so match on id
+        boolean removed = entries.asMap().values().removeIf(cached -> cached.getUser().getId().equals(user.getId()));
+        log.debug("Evicted cached principal for user id {}: {}", user.getId(), removed);
+    }
+
+    private static CustomUserDetails copyOf(CustomUserDetails userDetails) {
+        return new CustomUserDetails(userDetails.getUser().toBuilder().build());
+    }
+}
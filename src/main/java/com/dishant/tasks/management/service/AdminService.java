@@ -5,8 +5,9 @@ import com.dishant.tasks.management.exception.ResourceNotFoundException;
 import com.dishant.tasks.management.model.Role;
 import com.dishant.tasks.management.model.TaskStatus;
 import com.dishant.tasks.management.model.User;
-import com.dishant.tasks.management.repository.TaskRepository;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.TokenRevocationService;
+import com.dishant.tasks.management.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -19,7 +20,9 @@ import static com.dishant.tasks.management.constants.Constants.USER_NOT_FOUND_ER
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
+    private final UserPrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final TaskCountService taskCountService;
 
     public AdminUserResponse getUserById(Long id) {
         return userRepository.findById(id)
@@ -32,21 +35,26 @@ public class AdminService {
                 .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_ERROR_MESSAGE));
         user.setRole(newRole);
         userRepository.save(user);
+        principalCache.evict(user);
+        tokenRevocationService.revoke(user.getId());
     }
 
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_ERROR_MESSAGE));
         userRepository.delete(user);
+        principalCache.evict(user);
+        tokenRevocationService.revoke(user.getId());
     }
 
     public Map<String, Object> getDashboardStats() {
+        Map<TaskStatus, Long> taskCounts = taskCountService.getCounts();
         return Map.of(
                 "totalUsers", userRepository.count(),
-                "totalTasks", taskRepository.count(),
-                "completedTasks", taskRepository.countByStatus(TaskStatus.COMPLETED),
-                "pendingTasks", taskRepository.countByStatus(TaskStatus.PENDING),
-                "inProgressTasks", taskRepository.countByStatus(TaskStatus.IN_PROGRESS)
+                "totalTasks", taskCounts.values().stream().mapToLong(Long::longValue).sum(),
+                "completedTasks", taskCounts.get(TaskStatus.COMPLETED),
+                "pendingTasks", taskCounts.get(TaskStatus.PENDING),
+                "inProgressTasks", taskCounts.get(TaskStatus.IN_PROGRESS)
         );
     }
 }
@@ -1,39 +1,138 @@
 package com.dishant.tasks.management.service;
 
+import com.dishant.tasks.management.model.EmailOutbox;
+import com.dishant.tasks.management.model.EmailStatus;
 import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.EmailOutboxRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emails are never sent on the caller's thread. They are written to the {@code email_outbox}
+ * table inside the caller's transaction and delivered later by
+ * {@link com.dishant.tasks.management.scheduler.EmailOutboxDispatcher}, so a slow or
+ * unreachable SMTP server cannot hold up a request, and a rolled back registration
+ * never sends its verification mail.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EmailService {
 
-    private JavaMailSender javaMailSender;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${email.outbox.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    @Value("${email.outbox.lease:5m}")
+    private Duration lease;
 
+    @Transactional
     public void sendVerificationEmail(User user, String resetLink) {
         String verificationLink = "http://localhost:8080/v1/api/auth/verify?token=" + user.getVerificationToken();
 
         log.info("Preparing to send verification email to: {} and link: {}", user.getEmail(), resetLink);
         log.debug("Verification link generated for user {}: {} and reset link: {}", user.getUsername(), verificationLink, resetLink);
-        log.info("📧 Send this verification link to user: {}", verificationLink);
+        sendEmail(user.getEmail(), "Verify your email",
+                "Hi " + user.getName() + ",\n\nPlease verify your email address by opening this link:\n" + verificationLink);
     }
 
+    @Transactional
+    public void sendPasswordResetEmail(User user, String resetLink) {
+        log.info("Preparing to send password reset email to: {}", user.getEmail());
+        sendEmail(user.getEmail(), "Reset your password",
+                "Hi " + user.getName() + ",\n\nUse this link to choose a new password. It expires in 30 minutes:\n" + resetLink);
+    }
+
+    /**
+     * Queues an email for delivery. Joins the caller's transaction when there is one.
+     */
+    @Transactional
     public void sendEmail(String to, String subject, String body) {
-        log.info("Sending email to: {} | Subject: {}", to, subject);
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            javaMailSender.send(message);
-            log.info("Email sent successfully to: {}", to);
-        } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", to, e.getMessage());
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .status(EmailStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        log.info("Queued email to: {} | Subject: {}", to, subject);
+    }
+
+    /**
+     * Claims up to {@code limit} due messages for this node by moving their next attempt
+     * past the lease. Rows locked by a concurrent claim are skipped.
+     */
+    @Transactional
+    public List<EmailOutbox> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = emailOutboxRepository.lockDue(EmailStatus.PENDING, now, Limit.of(limit));
+        due.forEach(email -> email.setNextAttemptAt(now.plus(lease)));
+        return due;
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            emailOutboxRepository.markSent(ids, EmailStatus.SENT, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Schedules a retry with exponential backoff, or gives up once {@code max-attempts}
+     * deliveries have failed.
+     */
+    @Transactional
+    public void markFailed(Map<Long, String> errorsById) {
+        if (errorsById.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutbox email : emailOutboxRepository.findAllById(errorsById.keySet())) {
+            int attempts = email.getAttempts() + 1;
+            email.setAttempts(attempts);
+            email.setLastError(truncate(errorsById.get(email.getId())));
+            if (attempts >= maxAttempts) {
+                email.setStatus(EmailStatus.FAILED);
+                log.error("Giving up on email {} to {} after {} attempts: {}",
+                        email.getId(), email.getRecipient(), attempts, email.getLastError());
+            } else {
+                email.setNextAttemptAt(now.plus(backoff(attempts)));
+                log.warn("Email {} to {} failed (attempt {}), retrying at {}: {}",
+                        email.getId(), email.getRecipient(), attempts, email.getNextAttemptAt(), email.getLastError());
+            }
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
         }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
     }
 }
@@ -0,0 +1,117 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskCursor;
+import com.dishant.tasks.management.dto.TaskPageResponse;
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.model.TaskArchive;
+import com.dishant.tasks.management.repository.TaskArchiveRepository;
+import com.dishant.tasks.management.repository.SchedulerLogJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.dishant.tasks.management.constants.Constants.DEFAULT_PAGE_SIZE;
+import static com.dishant.tasks.management.constants.Constants.MAX_PAGE_SIZE;
+
+/**
+ * Retention for the tables that only ever grow. Completed tasks older than
+ * {@code completed-tasks} move to {@code tasks_archive}, and scheduler log rows older than
+ * {@code scheduler-logs} are deleted. Both work in batches of {@code batch-size} rows, each in
+ * its own short statement or transaction, so neither holds locks for long.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskArchiveService {
+
+    private final TaskService taskService;
+    private final SchedulerLogJdbcRepository schedulerLogJdbcRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+
+    @Value("${task.retention.completed-tasks:90d}")
+    private Duration completedTaskRetention;
+
+    @Value("${task.retention.scheduler-logs:30d}")
+    private Duration schedulerLogRetention;
+
+    @Value("${task.retention.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${task.retention.cron:0 30 3 * * *}")
+    @SchedulerLock(name = "applyTaskRetention", lockAtMostFor = "1h")
+    public void applyRetention() {
+        long archived = archiveCompletedTasks();
+        long purged = purgeSchedulerLogs();
+        log.info("Retention run archived {} completed tasks and deleted {} scheduler log rows", archived, purged);
+    }
+
+    long archiveCompletedTasks() {
+        LocalDateTime completedBefore = LocalDateTime.now().minus(completedTaskRetention);
+        long total = 0;
+        int archived;
+        do {
+            archived = taskService.archiveCompletedTasks(completedBefore, batchSize);
+            total += archived;
+        } while (archived == batchSize);
+        return total;
+    }
+
+    long purgeSchedulerLogs() {
+        Timestamp startedBefore = Timestamp.valueOf(LocalDateTime.now().minus(schedulerLogRetention));
+        long total = 0;
+        int deleted;
+        do {
+            deleted = schedulerLogJdbcRepository.deleteStartedBefore(startedBefore, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    public TaskPageResponse getArchivedTaskPage(Long userId, String cursor, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        TaskCursor after = TaskCursor.decode(cursor);
+        log.info("Fetching archived task page for user {} after {}", userId, after);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<TaskArchive> tasks = taskArchiveRepository.findPage(userId,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(), Limit.of(pageSize + 1));
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskArchive> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskArchive last = page.getLast();
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return TaskPageResponse.builder()
+                .items(page.stream().map(TaskArchiveService::mapToResponse).toList())
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static TaskResponse mapToResponse(TaskArchive task) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .dueDate(task.getDueDate())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .flag(task.getFlag())
+                .username(task.getUsername())
+                .assignedToUsername(task.getAssignedToUsername())
+                .priority(task.getPriority())
+                .build();
+    }
+}
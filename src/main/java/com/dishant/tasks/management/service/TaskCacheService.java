@@ -0,0 +1,207 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier read-through cache of single tasks for {@code GET /v1/api/tasks/{id}}: a small
+ * Caffeine cache per node in front of Redis, which is shared by all nodes. Committed updates,
+ * closes and deletes remove the task from Redis and from the local tier; every node drops
+ * its local copy and deletes the Redis key again when the change reaches it over Redis
+ * pub/sub ({@link TaskChangeBroadcaster}). That second delete removes a stale value another
+ * node loaded before the commit and wrote to Redis after the first delete. Entries carry the
+ * owner id so access can be checked without the entity.
+ */
+@Service
+@Slf4j
+public class TaskCacheService {
+
+    static final String KEY_PREFIX = "task:";
+    private static final int STRIPES = 1024;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, CachedTask> localCache;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter invalidations;
+    // Bumped when a task in the stripe is invalidated; a load that raced with one is not cached.
+    // Striped by task id so a change only affects loads of tasks that hash to the same stripe
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    // Loads check their stripe's generation and fill both tiers under its read lock, and
+    // invalidations bump it under the write lock before deleting from Redis, so a load's
+    // write is either skipped or lands before that delete
+    private final ReadWriteLock[] invalidationLocks = new ReadWriteLock[STRIPES];
+    private final ExecutorService redisEvictor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-cache-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${task.cache.redis-ttl:10m}")
+    private Duration redisTtl;
+
+    public TaskCacheService(StringRedisTemplate redisTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${task.cache.local-max-size:10000}") long localMaxSize,
+                            @Value("${task.cache.local-ttl:30s}") Duration localTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "tasks.local");
+        this.redisHits = Counter.builder("cache.gets").tag("cache", "tasks.redis").tag("result", "hit")
+                .description("Task lookups served from Redis").register(meterRegistry);
+        this.redisMisses = Counter.builder("cache.gets").tag("cache", "tasks.redis").tag("result", "miss")
+                .description("Task lookups that went to the database").register(meterRegistry);
+        this.invalidations = Counter.builder("cache.invalidations").tag("cache", "tasks")
+                .description("Tasks removed from the cache after a change").register(meterRegistry);
+        for (int i = 0; i < STRIPES; i++) {
+            invalidationLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    public CachedTask get(Long id, Supplier<CachedTask> loader) {
+        CachedTask cached = localCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(id);
+        long loadGeneration = generations.get(stripe);
+        cached = readRedis(id);
+        boolean loaded = cached == null;
+        if (loaded) {
+            redisMisses.increment();
+            cached = loader.get();
+        } else {
+            redisHits.increment();
+        }
+
+        Lock lock = invalidationLocks[stripe].readLock();
+        lock.lock();
+        try {
+            if (generations.get(stripe) == loadGeneration) {
+                if (loaded) {
+                    writeRedis(id, cached);
+                }
+                localCache.put(id, cached);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return cached;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.CREATED) {
+            return;
+        }
+        evict(event.tasks().stream().map(TaskSnapshot::id).toList());
+    }
+
+    /** Drops tasks from both tiers; called after a local commit. */
+    public void evict(Collection<Long> ids) {
+        evictLocal(ids);
+        deleteFromRedis(ids);
+    }
+
+    /**
+     * Drops tasks from both tiers for a change received over pub/sub. The local tier is
+     * cleared before returning, so changes apply in the order they arrive; the Redis delete
+     * runs on a background thread so it does not hold up the ordered listener.
+     */
+    public void evictReceived(Collection<Long> ids) {
+        evictLocal(ids);
+        try {
+            redisEvictor.execute(() -> deleteFromRedis(ids));
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            deleteFromRedis(ids);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        redisEvictor.shutdown();
+    }
+
+    private void evictLocal(Collection<Long> ids) {
+        for (Long id : ids) {
+            int stripe = stripe(id);
+            Lock lock = invalidationLocks[stripe].writeLock();
+            lock.lock();
+            try {
+                generations.incrementAndGet(stripe);
+                localCache.invalidate(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+        invalidations.increment(ids.size());
+    }
+
+    private static int stripe(Long id) {
+        return Math.floorMod(Long.hashCode(id), STRIPES);
+    }
+
+    private void deleteFromRedis(Collection<Long> ids) {
+        try {
+            redisTemplate.delete(ids.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            log.warn("Failed to evict {} cached tasks from Redis: {}", ids.size(), e.getMessage());
+        }
+    }
+
+    private CachedTask readRedis(Long id) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + id);
+            return json == null ? null : objectMapper.readValue(json, CachedTask.class);
+        } catch (Exception e) {
+            log.warn("Failed to read task {} from Redis cache: {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Long id, CachedTask task) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + id, objectMapper.writeValueAsString(task), redisTtl);
+        } catch (Exception e) {
+            log.warn("Failed to cache task {} in Redis: {}", id, e.getMessage());
+        }
+    }
+
+    public record CachedTask(Long ownerId, TaskResponse task) {
+    }
+}
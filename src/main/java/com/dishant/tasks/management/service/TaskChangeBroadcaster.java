@@ -0,0 +1,66 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.scheduler.DueTaskTimer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+
+/**
+ * Fans committed task changes out to every node over the Redis {@value #CHANNEL} channel.
+ * Each node, including the publishing one, drops the tasks from its {@link TaskCacheService}
+ * tier and from Redis, queues them for its {@link TaskSearchService} index, updates
+ * its {@link DueTaskTimer} and hands the change to its {@link TaskStreamService}. If Redis is
+ * unavailable the change is still delivered to this node's index, timer and streams.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskChangeBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "tasks:changes";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskStreamService taskStreamService;
+    private final TaskCacheService taskCacheService;
+    private final TaskSearchService taskSearchService;
+    private final DueTaskTimer dueTaskTimer;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast {} task changes, streaming them on this node only: {}",
+                    event.tasks().size(), e.getMessage());
+            taskSearchService.onTaskChanged(event);
+            dueTaskTimer.onTaskChanged(event);
+            taskStreamService.dispatch(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            TaskChangedEvent event = objectMapper.readValue(message.getBody(), TaskChangedEvent.class);
+            if (event.type() != TaskChangeType.CREATED) {
+                taskCacheService.evictReceived(event.tasks().stream().map(TaskSnapshot::id).toList());
+            }
+            taskSearchService.onTaskChanged(event);
+            dueTaskTimer.onTaskChanged(event);
+            taskStreamService.dispatch(event);
+        } catch (IOException e) {
+            log.error("Ignoring malformed task change message: {}", e.getMessage());
+        }
+    }
+}
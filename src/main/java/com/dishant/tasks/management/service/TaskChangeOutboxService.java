@@ -0,0 +1,53 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.model.TaskChangeOutbox;
+import com.dishant.tasks.management.repository.TaskChangeOutboxRepository;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records every task change in the {@code task_change_outbox} table for
+ * {@link com.dishant.tasks.management.scheduler.TaskChangeRelay} to publish. Unlike the
+ * other task event listeners this one runs before commit, inside the transaction that made
+ * the change: the outbox row commits or rolls back together with the task.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskChangeOutboxService {
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskChangeOutboxRepository taskChangeOutboxRepository;
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.tasks().isEmpty()) {
+            return;
+        }
+        taskJdbcRepository.insertChanges(event.type(), event.tasks(), LocalDateTime.now());
+        log.debug("Recorded {} {} task changes in the outbox", event.tasks().size(), event.type());
+    }
+
+    /** Oldest unpublished changes first, so per-task order is kept. */
+    @Transactional(readOnly = true)
+    public List<TaskChangeOutbox> nextBatch(int limit) {
+        return taskChangeOutboxRepository.findAllByOrderByIdAsc(Limit.of(limit));
+    }
+
+    @Transactional
+    public void markPublished(Collection<Long> ids) {
+        taskChangeOutboxRepository.deleteAllByIdInBatch(ids);
+    }
+}
@@ -0,0 +1,128 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+/**
+ * Task counts per status, kept in a Redis hash shared by all nodes. Committed task changes
+ * adjust the counters incrementally, so reading them is O(1) regardless of table size. A
+ * single GROUP BY query rebuilds the hash when it is missing and, periodically, to correct
+ * any drift from changes that raced with a rebuild or were lost while Redis was down.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskCountService {
+
+    static final String COUNTS_KEY = "dashboard:task-counts";
+
+    // Applies field/delta pairs only to an existing hash; a missing hash is rebuilt from the database on read
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            return 1""", Long.class);
+
+    private final TaskRepository taskRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    public Map<TaskStatus, Long> getCounts() {
+        try {
+            Map<Object, Object> cached = redisTemplate.opsForHash().entries(COUNTS_KEY);
+            if (!cached.isEmpty()) {
+                Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+                for (TaskStatus status : TaskStatus.values()) {
+                    counts.put(status, Long.parseLong((String) cached.getOrDefault(status.name(), "0")));
+                }
+                return counts;
+            }
+            return rebuild();
+        } catch (DataAccessException e) {
+            log.error("Failed to read task counters from Redis, counting in database: {}", e.getMessage());
+            return countInDatabase();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Map<TaskStatus, Long> deltas = new EnumMap<>(TaskStatus.class);
+        for (TaskSnapshot task : event.tasks()) {
+            switch (event.type()) {
+                case CREATED -> addDelta(deltas, task.status(), 1);
+                case DELETED, ARCHIVED -> addDelta(deltas, task.status(), -1);
+                case UPDATED, CLOSED -> {
+                    if (task.previousStatus() != task.status()) {
+                        addDelta(deltas, task.previousStatus(), -1);
+                        addDelta(deltas, task.status(), 1);
+                    }
+                }
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((status, delta) -> {
+            args.add(status.name());
+            args.add(String.valueOf(delta));
+        });
+        try {
+            redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(COUNTS_KEY), args.toArray());
+        } catch (DataAccessException e) {
+            // The next reconciliation corrects the counters
+            log.error("Failed to update task counters for {} event: {}", event.type(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.counters.reconcile-interval:5m}")
+    @SchedulerLock(name = "reconcileTaskCounts")
+    public void reconcile() {
+        rebuild();
+    }
+
+    private Map<TaskStatus, Long> rebuild() {
+        Map<TaskStatus, Long> counts = countInDatabase();
+        Map<String, String> fields = new HashMap<>();
+        counts.forEach((status, count) -> fields.put(status.name(), String.valueOf(count)));
+        try {
+            redisTemplate.opsForHash().putAll(COUNTS_KEY, fields);
+            log.info("Reconciled task counters: {}", counts);
+        } catch (DataAccessException e) {
+            log.error("Failed to store reconciled task counters: {}", e.getMessage());
+        }
+        return counts;
+    }
+
+    private static void addDelta(Map<TaskStatus, Long> deltas, TaskStatus status, long delta) {
+        if (status != null) {
+            deltas.merge(status, delta, Long::sum);
+        }
+    }
+
+    private Map<TaskStatus, Long> countInDatabase() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (TaskRepository.StatusCount row : taskRepository.countGroupByStatus()) {
+            if (row.getStatus() != null) {
+                counts.put(row.getStatus(), row.getCount());
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,156 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.exception.BadRequestException;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes every task to an output stream as NDJSON or CSV while it is read from the database,
+ * so memory use does not grow with the number of tasks.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,flag,dueDate,createdAt,updatedAt,version,username,assignedToUsername";
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final ObjectMapper objectMapper;
+
+    public long export(Format format, boolean gzip, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+        long rows = switch (format) {
+            case NDJSON -> writeNdjson(target);
+            case CSV -> writeCsv(target);
+        };
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        target.flush();
+        log.info("Exported {} tasks as {} in {} ms", rows, format, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private long writeNdjson(OutputStream out) throws IOException {
+        // Flushing after every row would turn each task into its own network write
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long rows = forEachTask(task -> {
+            writer.writeValue(generator, task);
+            generator.writeRaw('\n');
+        });
+        generator.flush();
+        return rows;
+    }
+
+    private long writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long rows = forEachTask(task -> {
+            writer.write(String.join(",",
+                    String.valueOf(task.getId()),
+                    csv(task.getTitle()),
+                    csv(task.getDescription()),
+                    csv(task.getStatus()),
+                    csv(task.getPriority()),
+                    csv(task.getFlag()),
+                    csv(task.getDueDate()),
+                    csv(task.getCreatedAt()),
+                    csv(task.getUpdatedAt()),
+                    csv(task.getVersion()),
+                    csv(task.getUsername()),
+                    csv(task.getAssignedToUsername())));
+            writer.write("\r\n");
+        });
+        writer.flush();
+        return rows;
+    }
+
+    private long forEachTask(RowWriter rowWriter) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        Consumer<TaskResponse> action = task -> {
+            try {
+                rowWriter.write(task);
+                rows.incrementAndGet();
+            } catch (IOException e) {
+                // Usually the client went away; this ends the query
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            taskJdbcRepository.forEachTask(action);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows.get();
+    }
+
+    /** RFC 4180: quote fields holding separators, quotes or line breaks, doubling inner quotes. */
+    static String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(TaskResponse task) throws IOException;
+    }
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.ProcessedOffset;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskPriority;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.ProcessedOffsetRepository;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.dishant.tasks.management.repository.UserRepository;
+import com.example.kafka.avro.TaskEventSchema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.dishant.tasks.management.constants.Constants.UNFLAGGED;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskIngestService {
+
+    private static final Comparator<TopicPartition> PARTITION_ORDER =
+            Comparator.comparing(TopicPartition::topic).thenComparingInt(TopicPartition::partition);
+
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final UserRepository userRepository;
+    private final ProcessedOffsetRepository processedOffsetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Inserts the tasks of a consumed batch exactly once. The processed offset of every
+     * partition in the batch is locked, records at or below it are dropped, and the offset is
+     * advanced in the same transaction as the task inserts.
+     *
+     * @return the processed offset of each partition once this transaction commits
+     */
+    @Transactional
+    public Map<TopicPartition, Long> ingest(List<ConsumerRecord<String, TaskEventSchema>> eventRecords) {
+        // Partitions are locked in a fixed order so concurrent consumers cannot deadlock
+        Map<TopicPartition, List<ConsumerRecord<String, TaskEventSchema>>> byPartition = eventRecords.stream()
+                .collect(Collectors.groupingBy(r -> new TopicPartition(r.topic(), r.partition()),
+                        () -> new TreeMap<>(PARTITION_ORDER), Collectors.toList()));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<TopicPartition, Long> processedOffsets = new HashMap<>();
+        List<TaskEventSchema> events = new ArrayList<>(eventRecords.size());
+        for (Map.Entry<TopicPartition, List<ConsumerRecord<String, TaskEventSchema>>> entry : byPartition.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            ProcessedOffset processed = processedOffsetRepository
+                    .lockByTopicAndPartition(partition.topic(), partition.partition())
+                    .orElseGet(() -> new ProcessedOffset(partition.topic(), partition.partition(), -1L, null));
+
+            long lastOffset = processed.getCommittedOffset();
+            for (ConsumerRecord<String, TaskEventSchema> eventRecord : entry.getValue()) {
+                if (eventRecord.offset() > processed.getCommittedOffset()) {
+                    events.add(eventRecord.value());
+                    lastOffset = Math.max(lastOffset, eventRecord.offset());
+                }
+            }
+            if (lastOffset > processed.getCommittedOffset()) {
+                processed.setCommittedOffset(lastOffset);
+                processed.setUpdatedAt(now);
+                processedOffsetRepository.save(processed);
+            }
+            processedOffsets.put(partition, lastOffset);
+        }
+
+        if (events.size() < eventRecords.size()) {
+            log.info("Skipped {} redelivered task events", eventRecords.size() - events.size());
+        }
+        if (events.isEmpty()) {
+            return processedOffsets;
+        }
+
+        Set<Long> userIds = events.stream()
+                .map(TaskEventSchema::getUserId)
+                .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Task> tasks = new ArrayList<>(events.size());
+        for (TaskEventSchema event : events) {
+            Task task = toTask(event, users, now);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+
+        int saved = taskJdbcRepository.insertAll(tasks);
+        if (saved > 0) {
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.CREATED,
+                    tasks.stream().map(task -> TaskSnapshot.of(task, null)).toList()));
+        }
+        log.info("Saved {} of {} task events from Kafka batch", saved, events.size());
+        return processedOffsets;
+    }
+
+    private Task toTask(TaskEventSchema event, Map<Long, User> users, LocalDateTime now) {
+        log.debug("Processing task event from Kafka for user '{}': {}", event.getUserName(), event.getTitle());
+
+        LocalDateTime dueDate;
+        try {
+            dueDate = LocalDateTime.parse(event.getDueDate());
+        } catch (Exception e) {
+            log.error("Invalid due date format '{}', skipping task: {}", event.getDueDate(), event.getTitle(), e);
+            return null;
+        }
+
+        Long userId = event.getUserId();
+        User user = users.get(userId);
+
+        if (user == null) {
+            log.error("User not found for ID '{}'. Task '{}' skipped.", userId, event.getTitle());
+            return null;
+        }
+
+        if (!user.getUsername().equals(event.getUserName())) {
+            log.error("Username mismatch for user ID '{}'. Expected '{}', but got '{}'.", userId, user.getUsername(), event.getUserName());
+            return null;
+        }
+
+        return Task.builder()
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .dueDate(dueDate)
+                .flag(UNFLAGGED)
+                .status(TaskStatus.PENDING)
+                .priority(TaskPriority.MEDIUM)
+                .createdAt(now)
+                .updatedAt(now)
+                .user(user)
+                .build();
+    }
+}
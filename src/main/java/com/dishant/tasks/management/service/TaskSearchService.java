@@ -0,0 +1,377 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.exception.BadRequestException;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.dishant.tasks.management.repository.TaskRepository;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.dishant.tasks.management.utils.TaskHelperUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over task titles and descriptions, backed by a Lucene index on this node's
+ * disk. Changed task ids arrive from every node through {@link TaskChangeBroadcaster}. Every
+ * refresh interval the pending ids are reloaded from the database in one query and written
+ * to the index. The index can also be rebuilt from MySQL while searches keep running.
+ * A search only takes the matching ids from the index and loads the tasks from the database,
+ * so a stale index entry can cost a missing or extra hit but never returns stale data.
+ *
+ * <p>Each commit records in its user data the time up to which every delivered change is in
+ * the index. Changes are broadcast over Redis pub/sub, which keeps nothing for a node that is
+ * down, so on startup the tasks updated since that time (less a margin for delivery delay and
+ * clock skew) are reindexed. Tasks deleted while the node was down stay in the index until the
+ * next rebuild; searches already drop them.
+ */
+@Service
+@Slf4j
+public class TaskSearchService {
+
+    static final String ID = "id";
+    static final String OWNER_ID = "ownerId";
+    static final String TITLE = "title";
+    static final String TEXT = "text";  // title and description together
+    static final String INDEXED_AT = "indexedAt";
+    static final String INDEXED_THROUGH = "indexedThrough";  // commit user data, epoch millis
+
+    private static final int MAX_LIMIT = 100;
+    private static final float TITLE_BOOST = 2.0f;
+
+    private final TaskRepository taskRepository;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskHelperUtil taskHelper;
+    private final Timer searchTimer;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong indexedDocuments = new AtomicLong();
+    private final AtomicLong indexedThrough = new AtomicLong();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean trackingChanges;
+
+    @Value("${task.search.index-path:data/task-index}")
+    private String indexPath;
+
+    @Value("${task.search.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${task.search.rebuild-if-empty:true}")
+    private boolean rebuildIfEmpty;
+
+    @Value("${task.search.catch-up-margin:5m}")
+    private Duration catchUpMargin;
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ExecutorService rebuildExecutor;
+
+    public TaskSearchService(TaskRepository taskRepository,
+                             TaskJdbcRepository taskJdbcRepository,
+                             TaskHelperUtil taskHelper,
+                             MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.taskJdbcRepository = taskJdbcRepository;
+        this.taskHelper = taskHelper;
+        this.searchTimer = Timer.builder("task.search")
+                .description("Task full-text searches against the local index")
+                .register(meterRegistry);
+        Gauge.builder("task.search.documents", indexedDocuments, AtomicLong::get)
+                .description("Documents in this node's task search index")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        writer = new IndexWriter(FSDirectory.open(Path.of(indexPath)), new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        indexedDocuments.set(writer.getDocStats().numDocs);
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            commitData.forEach(entry -> {
+                if (INDEXED_THROUGH.equals(entry.getKey())) {
+                    indexedThrough.set(Long.parseLong(entry.getValue()));
+                }
+            });
+        }
+        rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-search-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Opened task search index at {} with {} documents", Path.of(indexPath).toAbsolutePath(), indexedDocuments.get());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        rebuildExecutor.shutdownNow();
+        searcherManager.close();
+        writer.close();
+    }
+
+    /** Rebuilds an empty index, or queues the tasks changed since the last commit for reindexing. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        if (indexedDocuments.get() == 0) {
+            if (rebuildIfEmpty) {
+                log.info("Task search index is empty, rebuilding it from the database");
+                startRebuild();
+            }
+            return;
+        }
+        if (indexedThrough.get() == 0) {
+            log.info("Task search index has no commit watermark, rebuilding it from the database");
+            startRebuild();
+            return;
+        }
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(indexedThrough.get()), ZoneId.systemDefault())
+                .minus(catchUpMargin);
+        List<Long> changed = taskRepository.findIdsUpdatedSince(since);
+        pendingIds.addAll(changed);
+        log.info("Queued {} tasks changed since {} for reindexing", changed.size(), since);
+    }
+
+    public List<TaskResponse> search(String text, Integer limit) {
+        if (text == null || text.isBlank()) {
+            throw new BadRequestException("Search text is required");
+        }
+        AuthenticatedUser principal = taskHelper.getCurrentPrincipal();
+        int size = limit == null ? 20 : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        Query query = buildQuery(text, principal);
+        if (query == null) {
+            return List.of();  // no searchable words, e.g. only punctuation
+        }
+
+        List<Long> ids = searchTimer.record(() -> searchIds(query, size));
+        log.debug("Search for '{}' by {} matched {} tasks", text, principal.username(), ids.size());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // The database has the final say: deleted tasks drop out and access is checked again
+        Map<Long, Task> tasks = taskRepository.findWithUsersByIdIn(ids).stream()
+                .filter(task -> principal.isAdmin() || principal.id().equals(task.getUser().getId()))
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream().map(tasks::get).filter(Objects::nonNull).map(taskHelper::mapToResponse).toList();
+    }
+
+    /** Marks the tasks of a change, made on any node, for reindexing. */
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangeType.CLOSED) {
+            return;  // status is not indexed
+        }
+        List<Long> ids = event.tasks().stream().map(TaskSnapshot::id).toList();
+        pendingIds.addAll(ids);
+        if (trackingChanges) {
+            changedDuringRebuild.addAll(ids);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.search.refresh-interval:1s}")
+    public void indexPending() {
+        // Every change delivered before this point is in the writer once the queue drains
+        long drainStartedAt = System.currentTimeMillis();
+        List<Long> batch = List.of();
+        try {
+            while (!pendingIds.isEmpty()) {
+                batch = new ArrayList<>(Math.min(pendingIds.size(), batchSize));
+                for (Iterator<Long> it = pendingIds.iterator(); it.hasNext() && batch.size() < batchSize; ) {
+                    batch.add(it.next());
+                    it.remove();
+                }
+                index(batch);
+                batch = List.of();
+            }
+            indexedThrough.accumulateAndGet(drainStartedAt, Math::max);
+            searcherManager.maybeRefresh();
+        } catch (IOException | RuntimeException e) {
+            // Retried on the next refresh
+            pendingIds.addAll(batch);
+            log.error("Failed to update task search index, {} tasks requeued: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.search.commit-interval:30s}")
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.setLiveCommitData(Map.of(INDEXED_THROUGH, String.valueOf(indexedThrough.get())).entrySet());
+            writer.commit();
+        }
+    }
+
+    /**
+     * Rebuilds the index from MySQL in the background. Every task is rewritten, then the
+     * documents that were not rewritten (tasks deleted while an update was missed) are
+     * removed, so searches keep working throughout. Tasks changed while the rebuild ran may
+     * have been overwritten with the older row the cursor read, so they are reindexed after.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        rebuildExecutor.execute(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Task search index rebuild failed", e);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    void rebuild() throws IOException {
+        long start = System.currentTimeMillis();
+        AtomicLong rows = new AtomicLong();
+        changedDuringRebuild.clear();
+        trackingChanges = true;
+        try {
+            taskJdbcRepository.forEachSearchDocument(document -> {
+                try {
+                    writer.updateDocument(new Term(ID, document.id().toString()),
+                            toDocument(document.id(), document.ownerId(), document.title(), document.description()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows.incrementAndGet();
+            });
+            writer.deleteDocuments(LongPoint.newRangeQuery(INDEXED_AT, Long.MIN_VALUE, start - 1));
+            // Every row committed before the cursor opened has been written
+            indexedThrough.accumulateAndGet(start, Math::max);
+            commit();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            trackingChanges = false;
+            pendingIds.addAll(changedDuringRebuild);
+            changedDuringRebuild.clear();
+        }
+        searcherManager.maybeRefresh();
+        indexedDocuments.set(writer.getDocStats().numDocs);
+        log.info("Rebuilt task search index with {} tasks in {} ms", rows.get(), System.currentTimeMillis() - start);
+    }
+
+    private void index(List<Long> ids) throws IOException {
+        Map<Long, Task> tasks = new LinkedHashMap<>();
+        taskRepository.findAllById(ids).forEach(task -> tasks.put(task.getId(), task));
+        for (Long id : ids) {
+            Task task = tasks.get(id);
+            if (task == null) {
+                writer.deleteDocuments(new Term(ID, id.toString()));
+            } else {
+                writer.updateDocument(new Term(ID, id.toString()), toDocument(id,
+                        task.getUser() == null ? null : task.getUser().getId(), task.getTitle(), task.getDescription()));
+            }
+        }
+        indexedDocuments.set(writer.getDocStats().numDocs);
+        log.debug("Reindexed {} changed tasks", ids.size());
+    }
+
+    private List<Long> searchIds(Query query, int size) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, size).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task search failed", e);
+        }
+    }
+
+    private Query buildQuery(String text, AuthenticatedUser principal) {
+        // Every word has to appear in the title or the description; title matches rank higher
+        Query matches = queryBuilder.createBooleanQuery(TEXT, text, BooleanClause.Occur.MUST);
+        if (matches == null) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(matches, BooleanClause.Occur.MUST);
+        Query title = queryBuilder.createBooleanQuery(TITLE, text, BooleanClause.Occur.SHOULD);
+        if (title != null) {
+            query.add(new BoostQuery(title, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (!principal.isAdmin()) {
+            query.add(LongPoint.newExactQuery(OWNER_ID, principal.id()), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static Document toDocument(Long id, Long ownerId, String title, String description) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        if (ownerId != null) {
+            document.add(new LongPoint(OWNER_ID, ownerId));
+        }
+        document.add(new LongPoint(INDEXED_AT, System.currentTimeMillis()));
+        if (title != null) {
+            document.add(new TextField(TITLE, title, Field.Store.NO));
+        }
+        document.add(new TextField(TEXT, Objects.toString(title, "") + "\n" + Objects.toString(description, ""), Field.Store.NO));
+        return document;
+    }
+}
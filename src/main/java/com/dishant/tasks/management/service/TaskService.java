@@ -1,25 +1,46 @@
 package com.dishant.tasks.management.service;
 
+import com.dishant.tasks.management.dto.BulkTaskResponse;
+import com.dishant.tasks.management.dto.BulkTaskResult;
+import com.dishant.tasks.management.dto.TaskCursor;
+import com.dishant.tasks.management.dto.TaskFilter;
+import com.dishant.tasks.management.dto.TaskPageResponse;
 import com.dishant.tasks.management.dto.TaskRequest;
 import com.dishant.tasks.management.dto.TaskResponse;
 import com.dishant.tasks.management.dto.UpdateTaskRequest;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
 import com.dishant.tasks.management.exception.BadRequestException;
 import com.dishant.tasks.management.exception.ResourceNotFoundException;
 import com.dishant.tasks.management.model.Task;
 import com.dishant.tasks.management.model.TaskPriority;
 import com.dishant.tasks.management.model.TaskStatus;
 import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.TaskArchiveJdbcRepository;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
 import com.dishant.tasks.management.repository.TaskRepository;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.dishant.tasks.management.utils.ETagUtil;
 import com.dishant.tasks.management.utils.TaskHelperUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.dishant.tasks.management.constants.Constants.*;
+import static com.dishant.tasks.management.repository.TaskSpecifications.*;
 
 @Service
 @RequiredArgsConstructor
@@ -29,7 +50,15 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final TaskHelperUtil taskHelper;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCacheService taskCache;
+    private final TaskJdbcRepository taskJdbcRepository;
+    private final TaskArchiveJdbcRepository taskArchiveJdbcRepository;
 
+    @Value("${task.bulk.max-items:500}")
+    private int maxBulkItems;
+
+    @Transactional
     public TaskResponse createTask(TaskRequest request) {
         log.info("Creating new task for user");
         User currentUser = taskHelper.getCurrentUser();
@@ -56,31 +85,86 @@ public class TaskService {
                 .build();
 
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, TaskSnapshot.of(savedTask, null)));
         log.info("Task created successfully with ID: {}", savedTask.getId());
         return taskHelper.mapToResponse(savedTask);
     }
 
     public List<TaskResponse> getAllTasks() {
         log.info("Fetching all tasks for current user");
-        User user = taskHelper.getCurrentUser();
-        boolean isAdmin = taskHelper.isAdmin(user);
+        AuthenticatedUser principal = taskHelper.getCurrentPrincipal();
+        boolean isAdmin = principal.isAdmin();
 
         List<Task> tasks = isAdmin
                 ? taskRepository.findByStatusNot(TaskStatus.COMPLETED)
-                : taskRepository.findByUserAndStatusNot(user, TaskStatus.COMPLETED);
+                : taskRepository.findByUserIdAndStatusNot(principal.id(), TaskStatus.COMPLETED);
 
         log.info("Retrieved {} tasks for {}", tasks.size(), isAdmin ? "Admin" : "User");
         return tasks.stream().map(taskHelper::mapToResponse).toList();
     }
 
+    /**
+     * ETag of what {@link #getAllTasks()} would return for the caller, from a count/max/sum
+     * aggregate over the same rows instead of loading them.
+     */
+    public String getAllTasksETag() {
+        AuthenticatedUser principal = taskHelper.getCurrentPrincipal();
+        return principal.isAdmin()
+                ? ETagUtil.taskList("all", taskRepository.findListVersion(TaskStatus.COMPLETED))
+                : ETagUtil.taskList("u" + principal.id(),
+                        taskRepository.findListVersionByUserId(principal.id(), TaskStatus.COMPLETED));
+    }
+
+    public TaskPageResponse getTaskPage(TaskFilter filter) {
+        AuthenticatedUser principal = taskHelper.getCurrentPrincipal();
+        boolean isAdmin = principal.isAdmin();
+        int limit = filter.getLimit() == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(filter.getLimit(), 1), MAX_PAGE_SIZE);
+        log.info("Fetching task page for {} with filter: {}", isAdmin ? "Admin" : "User", filter);
+
+        Specification<Task> spec = Specification.allOf(
+                createdBy(isAdmin ? null : principal.id()),
+                assignedTo(filter.getAssignedToId()),
+                hasStatus(filter.getStatus()),
+                hasPriority(filter.getPriority()),
+                hasFlag(filter.getFlag()),
+                dueBetween(filter.getDueFrom(), filter.getDueTo()),
+                after(TaskCursor.decode(filter.getCursor()))
+        );
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        List<Task> tasks = taskRepository.findBy(spec, query -> query.sortBy(KEYSET_SORT)
+                .project(TASK_USER_ASSOCIATIONS)
+                .limit(limit + 1)
+                .all());
+        boolean hasMore = tasks.size() > limit;
+        List<Task> page = hasMore ? tasks.subList(0, limit) : tasks;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Task last = page.getLast();
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        log.info("Retrieved {} tasks, hasMore: {}", page.size(), hasMore);
+        return TaskPageResponse.builder()
+                .items(page.stream().map(taskHelper::mapToResponse).toList())
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
     public TaskResponse getTaskById(Long id) {
         log.info("Fetching task with ID: {}", id);
-        Task task = taskHelper.getTaskOrThrow(id);
-        taskHelper.checkAccess(task);
+        TaskCacheService.CachedTask cached = taskCache.get(id, () -> {
+            Task task = taskHelper.getTaskOrThrow(id);
+            return new TaskCacheService.CachedTask(task.getUser().getId(), taskHelper.mapToResponse(task));
+        });
+        taskHelper.checkAccess(cached.ownerId());
         log.debug("Access check passed for task ID: {}", id);
-        return taskHelper.mapToResponse(task);
+        return cached.task();
     }
 
+    @Transactional
     public TaskResponse updateTask(Long id, UpdateTaskRequest updateTaskRequest) {
         log.info("Updating task with ID: {}", id);
 
@@ -90,60 +174,292 @@ public class TaskService {
         }
 
         Task task = taskHelper.getTaskOrThrow(id);
-        User currentUser = taskHelper.getCurrentUser();
+        AuthenticatedUser principal = taskHelper.getCurrentPrincipal();
         taskHelper.checkAccess(task);
-        log.debug("User {} has access to update task {}", currentUser.getUsername(), id);
-
-        switch (updateTaskRequest.getType()) {
-            case ACTION -> {
-                log.debug("Updating task status to: {}", updateTaskRequest.getValue());
-                task.setStatus(TaskStatus.valueOf(updateTaskRequest.getValue()));
-            }
-            case FLAG -> {
-                log.debug("Updating task flag to: {}", updateTaskRequest.getValue());
-                task.setFlag(updateTaskRequest.getValue());
-            }
-            default -> {
-                log.warn("Unknown update type: {}", updateTaskRequest.getType());
-                throw new BadRequestException("Unknown update type");
-            }
-        }
+        log.debug("User {} has access to update task {}", principal.username(), id);
+        TaskStatus previousStatus = task.getStatus();
 
-        task.setTitle(updateTaskRequest.getTitle());
-        task.setDescription(updateTaskRequest.getDescription());
-        task.setDueDate(updateTaskRequest.getDueDate());
-        task.setPriority(updateTaskRequest.getPriority());
-
-        if (taskHelper.isAdmin(currentUser) && updateTaskRequest.getAssignedToId() != null) {
+        User assignedUser = null;
+        if (principal.isAdmin() && updateTaskRequest.getAssignedToId() != null) {
             log.debug("Admin reassigning task {} to user ID: {}", id, updateTaskRequest.getAssignedToId());
-            User assignedUser = userRepository.findById(updateTaskRequest.getAssignedToId())
+            assignedUser = userRepository.findById(updateTaskRequest.getAssignedToId())
                     .orElseThrow(() -> {
                         log.warn("Assigned user not found for update: {}", updateTaskRequest.getAssignedToId());
                         return new ResourceNotFoundException("Assigned user not found");
                     });
-            task.setAssignedTo(assignedUser);
         }
+        applyUpdate(task, updateTaskRequest, assignedUser);
 
         Task updatedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.UPDATED, TaskSnapshot.of(updatedTask, previousStatus)));
         log.info("Task with ID: {} updated successfully", updatedTask.getId());
         return taskHelper.mapToResponse(updatedTask);
     }
 
+    @Transactional
     public void deleteTask(Long id) {
         log.info("Deleting task with ID: {}", id);
         Task task = taskHelper.getTaskOrThrow(id);
         taskHelper.checkAccess(task);
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.DELETED, TaskSnapshot.of(task, task.getStatus())));
         log.info("Task with ID: {} deleted successfully", id);
     }
 
+    @Transactional
     public void closeTask(Long id) {
         log.info("Closing task with ID: {}", id);
         Task task = taskHelper.getTaskOrThrow(id);
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(TaskStatus.COMPLETED);
         task.setUpdatedAt(LocalDateTime.now());
 
         taskRepository.save(task);
+        if (previousStatus != TaskStatus.COMPLETED) {
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CLOSED, TaskSnapshot.of(task, previousStatus)));
+        }
         log.info("Task with ID: {} marked as COMPLETED", id);
     }
+
+    @Transactional
+    public int closeExpiredTasks(List<Long> ids) {
+        log.info("Closing {} expired tasks in bulk", ids.size());
+        List<Task> openTasks = taskRepository.lockOpenTasks(ids, TaskStatus.COMPLETED, LocalDateTime.now());
+        if (openTasks.isEmpty()) {
+            log.info("All {} expired tasks were already closed", ids.size());
+            return 0;
+        }
+
+        List<TaskSnapshot> closedTasks = openTasks.stream()
+                .map(task -> TaskSnapshot.of(task, null).transitionTo(TaskStatus.COMPLETED))
+                .toList();
+        int closed = taskRepository.closeAll(closedTasks.stream().map(TaskSnapshot::id).toList(),
+                TaskStatus.COMPLETED, LocalDateTime.now());
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.CLOSED, closedTasks));
+        log.info("{} of {} expired tasks marked as COMPLETED", closed, ids.size());
+        return closed;
+    }
+
+    /**
+     * Moves one batch of tasks completed before {@code completedBefore} to the archive table.
+     * Each call is its own short transaction, so the rows are locked only for one batch.
+     */
+    @Transactional
+    public int archiveCompletedTasks(LocalDateTime completedBefore, int limit) {
+        List<TaskSnapshot> archived = taskArchiveJdbcRepository.archive(TaskStatus.COMPLETED, completedBefore, limit, LocalDateTime.now());
+        if (!archived.isEmpty()) {
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.ARCHIVED, archived));
+        }
+        log.info("Archived {} tasks completed before {}", archived.size(), completedBefore);
+        return archived.size();
+    }
+
+    /**
+     * Creates every valid task in JDBC batches. Assignees are resolved in one query and each
+     * invalid item is reported in its result instead of failing the whole request.
+     */
+    @Transactional
+    public BulkTaskResponse createTasks(List<TaskRequest> requests) {
+        checkBulkSize(requests);
+        User currentUser = taskHelper.getCurrentUser();
+        boolean isAdmin = taskHelper.isAdmin(currentUser);
+        log.info("Creating {} tasks in bulk for user {}", requests.size(), currentUser.getUsername());
+
+        Map<Long, User> assignees = isAdmin
+                ? findUsers(requests.stream().map(TaskRequest::getAssignedToId))
+                : Map.of();
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkTaskResult> results = new ArrayList<>(requests.size());
+        List<Task> tasks = new ArrayList<>(requests.size());
+        List<Integer> taskIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            if (request == null || request.getTitle() == null || request.getTitle().isBlank()) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.BAD_REQUEST.value(), null, "Title is required"));
+                continue;
+            }
+            User assignedTo = currentUser;
+            if (isAdmin && request.getAssignedToId() != null) {
+                assignedTo = assignees.get(request.getAssignedToId());
+                if (assignedTo == null) {
+                    results.add(BulkTaskResult.failure(i, HttpStatus.NOT_FOUND.value(), null, "Assigned user not found"));
+                    continue;
+                }
+            }
+            // Entity callbacks do not run for JDBC inserts, so this mirrors Task.onCreate
+            tasks.add(Task.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .status(TaskStatus.PENDING)
+                    .flag(UNFLAGGED)
+                    .dueDate(request.getDueDate())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .user(currentUser)
+                    .assignedTo(assignedTo)
+                    .priority(request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM)
+                    .build());
+            taskIndexes.add(i);
+        }
+
+        if (!tasks.isEmpty()) {
+            taskJdbcRepository.insertAll(tasks);
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.CREATED,
+                    tasks.stream().map(task -> TaskSnapshot.of(task, null)).toList()));
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            results.add(BulkTaskResult.success(taskIndexes.get(i), HttpStatus.CREATED.value(), task.getId(),
+                    taskHelper.mapToResponse(task)));
+        }
+        log.info("Created {} of {} tasks in bulk", tasks.size(), requests.size());
+        return BulkTaskResponse.of(results);
+    }
+
+    /**
+     * Updates tasks loaded in one query. Access is checked per task in memory; the changed
+     * rows are flushed as one JDBC batch at commit.
+     */
+    @Transactional
+    public BulkTaskResponse updateTasks(List<UpdateTaskRequest> requests) {
+        checkBulkSize(requests);
+        AuthenticatedUser principal = taskHelper.getCurrentPrincipal();
+        log.info("Updating {} tasks in bulk for user {}", requests.size(), principal.username());
+
+        Map<Long, Task> tasks = taskRepository.findWithUsersByIdIn(requests.stream()
+                        .filter(Objects::nonNull).map(UpdateTaskRequest::getId).filter(Objects::nonNull).toList())
+                .stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, User> assignees = principal.isAdmin()
+                ? findUsers(requests.stream().filter(Objects::nonNull).map(UpdateTaskRequest::getAssignedToId))
+                : Map.of();
+
+        List<BulkTaskResult> results = new ArrayList<>(requests.size());
+        List<TaskSnapshot> changes = new ArrayList<>(requests.size());
+        Set<Long> updatedIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UpdateTaskRequest request = requests.get(i);
+            Long id = request == null ? null : request.getId();
+            Task task = id == null ? null : tasks.get(id);
+            if (request == null || id == null || request.getType() == null || request.getType().isEmpty()) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.BAD_REQUEST.value(), id, "Invalid Request!"));
+            } else if (!updatedIds.add(id)) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.BAD_REQUEST.value(), id, "Task is listed more than once"));
+            } else if (task == null) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.NOT_FOUND.value(), id, "Task not found with id: " + id));
+            } else if (!canAccess(principal, task)) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.UNAUTHORIZED.value(), id, "Unauthorized access to task"));
+            } else if (principal.isAdmin() && request.getAssignedToId() != null && !assignees.containsKey(request.getAssignedToId())) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.NOT_FOUND.value(), id, "Assigned user not found"));
+            } else {
+                TaskStatus previousStatus = task.getStatus();
+                try {
+                    applyUpdate(task, request, principal.isAdmin() ? assignees.get(request.getAssignedToId()) : null);
+                } catch (BadRequestException | IllegalArgumentException e) {
+                    // Nothing has been applied yet when the type or status is rejected
+                    results.add(BulkTaskResult.failure(i, HttpStatus.BAD_REQUEST.value(), id, e.getMessage()));
+                    continue;
+                }
+                task.setUpdatedAt(LocalDateTime.now());
+                changes.add(TaskSnapshot.of(task, previousStatus));
+                results.add(BulkTaskResult.success(i, HttpStatus.OK.value(), id, null));
+            }
+        }
+
+        if (!changes.isEmpty()) {
+            taskRepository.flush();
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.UPDATED, changes));
+        }
+        results.replaceAll(result -> result.isSucceeded()
+                ? BulkTaskResult.success(result.getIndex(), result.getStatus(), result.getId(),
+                        taskHelper.mapToResponse(tasks.get(result.getId())))
+                : result);
+        log.info("Updated {} of {} tasks in bulk", changes.size(), requests.size());
+        return BulkTaskResponse.of(results);
+    }
+
+    /** Deletes every accessible task with one statement. */
+    @Transactional
+    public BulkTaskResponse deleteTasks(List<Long> ids) {
+        checkBulkSize(ids);
+        AuthenticatedUser principal = taskHelper.getCurrentPrincipal();
+        log.info("Deleting {} tasks in bulk for user {}", ids.size(), principal.username());
+
+        Map<Long, Task> tasks = taskRepository.findAllById(ids.stream().filter(Objects::nonNull).toList()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<BulkTaskResult> results = new ArrayList<>(ids.size());
+        List<TaskSnapshot> deleted = new ArrayList<>(ids.size());
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            Task task = id == null ? null : tasks.get(id);
+            if (id == null) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.BAD_REQUEST.value(), null, "Id is required"));
+            } else if (task == null || deletedIds.contains(id)) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.NOT_FOUND.value(), id, "Task not found with id: " + id));
+            } else if (!canAccess(principal, task)) {
+                results.add(BulkTaskResult.failure(i, HttpStatus.UNAUTHORIZED.value(), id, "Unauthorized access to task"));
+            } else {
+                deletedIds.add(id);
+                deleted.add(TaskSnapshot.of(task, task.getStatus()));
+                results.add(BulkTaskResult.success(i, HttpStatus.NO_CONTENT.value(), id, null));
+            }
+        }
+
+        if (!deletedIds.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(deletedIds);
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangeType.DELETED, deleted));
+        }
+        log.info("Deleted {} of {} tasks in bulk", deletedIds.size(), ids.size());
+        return BulkTaskResponse.of(results);
+    }
+
+    private void applyUpdate(Task task, UpdateTaskRequest updateTaskRequest, User assignedUser) {
+        switch (updateTaskRequest.getType()) {
+            case ACTION -> {
+                log.debug("Updating task status to: {}", updateTaskRequest.getValue());
+                if (updateTaskRequest.getValue() == null) {
+                    throw new BadRequestException("Status value is required");
+                }
+                task.setStatus(TaskStatus.valueOf(updateTaskRequest.getValue()));
+            }
+            case FLAG -> {
+                log.debug("Updating task flag to: {}", updateTaskRequest.getValue());
+                task.setFlag(updateTaskRequest.getValue());
+            }
+            default -> {
+                log.warn("Unknown update type: {}", updateTaskRequest.getType());
+                throw new BadRequestException("Unknown update type");
+            }
+        }
+
+        task.setTitle(updateTaskRequest.getTitle());
+        task.setDescription(updateTaskRequest.getDescription());
+        task.setDueDate(updateTaskRequest.getDueDate());
+        task.setPriority(updateTaskRequest.getPriority());
+        if (assignedUser != null) {
+            task.setAssignedTo(assignedUser);
+        }
+    }
+
+    private Map<Long, User> findUsers(Stream<Long> ids) {
+        List<Long> distinctIds = ids.filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private static boolean canAccess(AuthenticatedUser principal, Task task) {
+        return principal.isAdmin() || task.getUser().getId().equals(principal.id());
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("At least one item is required");
+        }
+        if (items.size() > maxBulkItems) {
+            throw new BadRequestException("At most " + maxBulkItems + " items are allowed per request");
+        }
+    }
 }
@@ -0,0 +1,220 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Event streams of task changes on this node. An open stream is an async
+ * servlet request and holds no thread. Changes are matched to subscribers by owner id (admins
+ * see every change) and appended to a bounded per-subscriber queue without blocking. A small
+ * writer pool drains those queues. A client whose queue fills up is too slow to keep up: its
+ * stream is completed, and it reloads the task list when it reconnects.
+ */
+@Service
+@Slf4j
+public class TaskStreamService {
+
+    private final ObjectMapper objectMapper;
+    private final Counter droppedSubscribers;
+    private final Map<Long, Set<Subscription>> userSubscriptions = new ConcurrentHashMap<>();
+    private final Set<Subscription> adminSubscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    @Value("${task.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${task.stream.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${task.stream.writer-threads:4}")
+    private int writerThreads;
+
+    private ExecutorService writers;
+
+    public TaskStreamService(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.droppedSubscribers = Counter.builder("task.stream.dropped")
+                .description("Task streams closed because the client could not keep up")
+                .register(meterRegistry);
+        Gauge.builder("task.stream.open", openStreams, AtomicInteger::get)
+                .description("Open task change streams on this node")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void startWriters() {
+        writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopWriters() {
+        adminSubscriptions.forEach(Subscription::close);
+        userSubscriptions.values().forEach(subscriptions -> subscriptions.forEach(Subscription::close));
+        writers.shutdown();
+    }
+
+    public SseEmitter subscribe(AuthenticatedUser principal) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(principal, emitter);
+        if (principal.isAdmin()) {
+            adminSubscriptions.add(subscription);
+        } else {
+            userSubscriptions.compute(principal.id(), (id, subscriptions) -> {
+                Set<Subscription> updated = subscriptions == null ? ConcurrentHashMap.newKeySet() : subscriptions;
+                updated.add(subscription);
+                return updated;
+            });
+        }
+        openStreams.incrementAndGet();
+
+        emitter.onCompletion(subscription::remove);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        // Sent straight away so proxies and the browser see the stream open
+        subscription.offer(SseEmitter.event().name("connected").data(Map.of("admin", principal.isAdmin())));
+        log.debug("Task stream opened for user {} ({} open)", principal.username(), openStreams.get());
+        return emitter;
+    }
+
+    /**
+     * Queues the change for every local subscriber allowed to see it. Never blocks: this runs
+     * on the Redis listener thread.
+     */
+    public void dispatch(TaskChangedEvent event) {
+        String name = event.type().name().toLowerCase(Locale.ROOT);
+        for (TaskSnapshot task : event.tasks()) {
+            Set<Subscription> owners = task.ownerId() == null ? null : userSubscriptions.get(task.ownerId());
+            if ((owners == null || owners.isEmpty()) && adminSubscriptions.isEmpty()) {
+                continue;
+            }
+            String data = toJson(task);
+            if (owners != null) {
+                owners.forEach(subscription -> subscription.offer(event(name, data)));
+            }
+            adminSubscriptions.forEach(subscription -> subscription.offer(event(name, data)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${task.stream.heartbeat-interval:25s}")
+    public void heartbeat() {
+        adminSubscriptions.forEach(subscription -> subscription.offer(SseEmitter.event().comment("heartbeat")));
+        userSubscriptions.values().forEach(subscriptions ->
+                subscriptions.forEach(subscription -> subscription.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    int openStreams() {
+        return openStreams.get();
+    }
+
+    private static SseEmitter.SseEventBuilder event(String name, String data) {
+        return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+    }
+
+    private String toJson(TaskSnapshot task) {
+        try {
+            return objectMapper.writeValueAsString(task);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task change for task " + task.id(), e);
+        }
+    }
+
+    private final class Subscription {
+
+        private final AuthenticatedUser principal;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(AuthenticatedUser principal, SseEmitter emitter) {
+            this.principal = principal;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.warn("Task stream for user {} fell {} events behind, closing it", principal.username(), queueCapacity);
+                droppedSubscribers.increment();
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        log.debug("Task stream for user {} is gone: {}", principal.username(), e.getMessage());
+                        close();
+                    }
+                }
+                draining.set(false);
+                // An offer may have slipped in after the last poll but before draining was cleared
+            } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+            remove();
+            emitter.complete();
+        }
+
+        void remove() {
+            if (!removed.compareAndSet(false, true)) {
+                return;
+            }
+            openStreams.decrementAndGet();
+            if (principal.isAdmin()) {
+                adminSubscriptions.remove(this);
+            } else {
+                userSubscriptions.computeIfPresent(principal.id(), (id, subscriptions) -> {
+                    subscriptions.remove(this);
+                    return subscriptions.isEmpty() ? null : subscriptions;
+                });
+            }
+        }
+    }
+}
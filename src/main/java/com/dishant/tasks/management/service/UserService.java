@@ -3,10 +3,12 @@ package com.dishant.tasks.management.service;
 import com.dishant.tasks.management.model.Role;
 import com.dishant.tasks.management.model.User;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -24,7 +26,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final UserPrincipalCache principalCache;
 
+    @Transactional
     public Optional<User> registerUser(Map<String, String> requestData) {
         String name = requestData.get("name");
         String username = requestData.get("username");
@@ -64,7 +68,7 @@ public class UserService {
         log.debug("User saved to repository: {}", username);
 
         emailService.sendVerificationEmail(user, "Abc");
-        log.debug("Verification email sent to: {}", email);
+        log.debug("Verification email queued for: {}", email);
 
         return Optional.of(user);
     }
@@ -87,6 +91,7 @@ public class UserService {
         return true;
     }
 
+    @Transactional
     public void resendVerification(String email) {
         log.debug("Resending verification email to: {}", email);
         Optional<User> userOpt = userRepository.findByEmail(email);
@@ -107,9 +112,10 @@ public class UserService {
         userRepository.save(user);
 
         emailService.sendVerificationEmail(user, "abc");
-        log.debug("New verification email sent to: {}", email);
+        log.debug("New verification email queued for: {}", email);
     }
 
+    @Transactional
     public void initiatePasswordReset(String email) {
         log.debug("Initiating password reset for email: {}", email);
         Optional<User> userOpt = userRepository.findByEmail(email);
@@ -128,8 +134,8 @@ public class UserService {
         String resetLink = "http://localhost:5173/reset-password/" + token;
         log.debug("Password reset token generated for user: {}, token: {}", user.getUsername(), token);
 
-        emailService.sendVerificationEmail(user, resetLink); // or use sendEmail() with reset link if preferred
-        log.debug("Password reset email sent to: {}", email);
+        emailService.sendPasswordResetEmail(user, resetLink);
+        log.debug("Password reset email queued for: {}", email);
     }
 
     public void resetPassword(String token, String newPassword) {
@@ -151,6 +157,7 @@ public class UserService {
         user.setResetToken(null);
         user.setResetTokenExpiry(null);
         userRepository.save(user);
+        principalCache.evict(user);
 
         log.debug("Password successfully reset for user: {}", user.getUsername());
     }
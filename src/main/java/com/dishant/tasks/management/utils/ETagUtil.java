@@ -0,0 +1,46 @@
+package com.dishant.tasks.management.utils;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.dto.UserResponse;
+import com.dishant.tasks.management.repository.TaskRepository;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Strong ETags for conditional GETs. Validators are built from data the request already has
+ * (or from a cheap aggregate for lists), never by serializing the response body.
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {
+    }
+
+    public static String task(TaskResponse task) {
+        return quote("task-" + task.getId() + "-" + task.getVersion() + "-" + millis(task.getUpdatedAt()));
+    }
+
+    /** The scope keeps one user's validator from ever matching another user's (or the admin) list. */
+    public static String taskList(String scope, TaskRepository.ListVersion version) {
+        return quote("tasks-" + scope + "-" + version.getCount() + "-" + millis(version.getLastUpdatedAt())
+                + "-" + version.getVersionSum());
+    }
+
+    /** Users carry no version column, so the profile is validated by a digest of its fields. */
+    public static String profile(UserResponse user) {
+        String fields = String.join("\u0000", Objects.toString(user.getName(), ""),
+                Objects.toString(user.getUsername(), ""), Objects.toString(user.getEmail(), ""));
+        return quote("user-" + user.getId() + "-" + DigestUtils.md5DigestAsHex(fields.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time == null ? 0 : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
@@ -7,6 +7,9 @@ import com.dishant.tasks.management.model.Task;
 import com.dishant.tasks.management.model.User;
 import com.dishant.tasks.management.repository.TaskRepository;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.dishant.tasks.management.security.CustomUserDetails;
+import com.dishant.tasks.management.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -21,13 +24,35 @@ public class TaskHelperUtil {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final UserPrincipalCache principalCache;
+
+    /**
+     * Identity and role of the caller, taken straight from the security context. Prefer this
+     * over {@link #getCurrentUser()} whenever the full entity is not needed.
+     */
+    public AuthenticatedUser getCurrentPrincipal() {
+        Object principal = getAuthentication().getPrincipal();
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        if (principal instanceof CustomUserDetails userDetails) {
+            return AuthenticatedUser.from(userDetails.getUser());
+        }
+        return AuthenticatedUser.from(getCurrentUser());
+    }
 
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Authentication authentication = getAuthentication();
 
-        if (authentication == null || !authentication.isAuthenticated()) {
-            log.error("No authenticated user found");
-            throw new RuntimeException("Unauthorized");
+        // JwtFilter already resolved the user for this request
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUser();
+        }
+
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principalCache.get(principal.username())
+                    .map(CustomUserDetails::getUser)
+                    .orElseGet(() -> loadPrincipalUser(principal));
         }
 
         String identifier = authentication.getName();
@@ -41,12 +66,32 @@ public class TaskHelperUtil {
                 });
     }
 
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            log.error("No authenticated user found");
+            throw new RuntimeException("Unauthorized");
+        }
+        return authentication;
+    }
+
+    private User loadPrincipalUser(AuthenticatedUser principal) {
+        User user = userRepository.findById(principal.id())
+                .orElseThrow(() -> {
+                    log.error("Authenticated user not found: {}", principal.username());
+                    return new UsernameNotFoundException("User not found: " + principal.username());
+                });
+        principalCache.put(principal.username(), new CustomUserDetails(user));
+        return user;
+    }
+
     public boolean isAdmin(User user) {
         return user.getRole().name().equals("ADMIN");
     }
 
     public Task getTaskOrThrow(Long id) {
-        return taskRepository.findById(id)
+        return taskRepository.findWithUsersById(id)
                 .orElseThrow(() -> {
                     log.warn("Task not found with ID: {}", id);
                     return new TaskNotFoundException("Task not found with id: " + id);
@@ -54,9 +99,13 @@ public class TaskHelperUtil {
     }
 
     public void checkAccess(Task task) {
-        User user = getCurrentUser();
-        if (!isAdmin(user) && !task.getUser().getId().equals(user.getId())) {
-            log.error("Unauthorized access attempt by user: {}", user.getUsername());
+        checkAccess(task.getUser().getId());
+    }
+
+    public void checkAccess(Long ownerId) {
+        AuthenticatedUser principal = getCurrentPrincipal();
+        if (!principal.isAdmin() && !ownerId.equals(principal.id())) {
+            log.error("Unauthorized access attempt by user: {}", principal.username());
             throw new UnAuthorizedException("Unauthorized access to task");
         }
     }
@@ -70,6 +119,7 @@ public class TaskHelperUtil {
                 .dueDate(task.getDueDate())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
                 .flag(task.getFlag())
                 .username(task.getUser().getUsername())
                 .assignedToUsername(task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : null)
@@ -0,0 +1,54 @@
+package com.dishant.tasks.management.config.redis;
+
+import com.dishant.tasks.management.service.TaskChangeBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RedisPubSubConfigTest {
+
+    private final RedisPubSubConfig config = new RedisPubSubConfig();
+
+    @AfterEach
+    void tearDown() {
+        config.stop();
+    }
+
+    @Test
+    void testListenerContainer_handlesMessagesInPublishOrderOnOneThread() throws InterruptedException {
+        RedisMessageListenerContainer container = config.redisMessageListenerContainer(
+                mock(RedisConnectionFactory.class), mock(TaskChangeBroadcaster.class));
+        Executor executor = (Executor) ReflectionTestUtils.getField(container, "taskExecutor");
+
+        List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = Collections.synchronizedSet(new HashSet<>());
+        CountDownLatch done = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int message = i;
+            executor.execute(() -> {
+                handled.add(message);
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(IntStream.range(0, 100).boxed().toList(), handled);
+        assertEquals(Set.of("task-change-listener"), threads);
+    }
+}
@@ -0,0 +1,76 @@
+package com.dishant.tasks.management.config.shedlock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ShedLockInspectionEndpointTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    @InjectMocks
+    private ShedLockInspectionEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(endpoint, "keyPrefix", "shedlock");
+        ReflectionTestUtils.setField(endpoint, "minInterval", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(endpoint, "maxKeys", 2);
+        ReflectionTestUtils.setField(endpoint, "scanCount", 100);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    @Test
+    void testLocks_scansPrefixAndCapsKeys() {
+        when(cursor.hasNext()).thenReturn(true, true, true, false);
+        when(cursor.next()).thenReturn("shedlock:default:a", "shedlock:default:b", "shedlock:default:c");
+        when(valueOps.multiGet(List.of("shedlock:default:a", "shedlock:default:b")))
+                .thenReturn(Arrays.asList("ADDED:2025-01-01T00:00:00Z@node-1", null));
+
+        ShedLockInspectionEndpoint.LockSnapshot snapshot = endpoint.locks();
+
+        ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+        verify(redisTemplate).scan(options.capture());
+        assertEquals("shedlock:*", options.getValue().getPattern());
+        verify(redisTemplate, never()).keys(anyString());
+        verify(cursor).close();
+        assertTrue(snapshot.truncated());
+        assertEquals(1, snapshot.count());
+        assertEquals("ADDED:2025-01-01T00:00:00Z@node-1", snapshot.locks().get("shedlock:default:a"));
+    }
+
+    @Test
+    void testLocks_reusesSnapshotWithinMinInterval() {
+        when(cursor.hasNext()).thenReturn(false);
+
+        ShedLockInspectionEndpoint.LockSnapshot first = endpoint.locks();
+        ShedLockInspectionEndpoint.LockSnapshot second = endpoint.locks();
+
+        assertSame(first, second);
+        verify(redisTemplate, times(1)).scan(any(ScanOptions.class));
+        verify(valueOps, never()).multiGet(any());
+    }
+}
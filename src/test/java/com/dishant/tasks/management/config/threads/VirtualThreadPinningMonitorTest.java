@@ -0,0 +1,51 @@
+package com.dishant.tasks.management.config.threads;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry);
+        ReflectionTestUtils.setField(monitor, "stackDepth", 8);
+    }
+
+    @Test
+    void testRecordPinnedEvent() {
+        RecordedEvent event = mock(RecordedEvent.class);
+        RecordedThread thread = mock(RecordedThread.class);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(45));
+        when(event.getThread()).thenReturn(thread);
+        when(thread.getJavaName()).thenReturn("tomcat-handler-7");
+
+        monitor.record(event);
+        monitor.record(event);
+
+        Timer timer = meterRegistry.get("jvm.threads.virtual.pinned").timer();
+        assertEquals(2, timer.count());
+        assertEquals(90, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void testNotRunningUntilStarted() {
+        assertFalse(monitor.isRunning());
+        monitor.stop();
+        assertFalse(monitor.isRunning());
+    }
+}
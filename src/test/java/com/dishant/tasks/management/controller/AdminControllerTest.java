@@ -1,20 +1,30 @@
 package com.dishant.tasks.management.controller;
 
 import com.dishant.tasks.management.dto.AdminUserResponse;
+import com.dishant.tasks.management.dto.TaskPageResponse;
 import com.dishant.tasks.management.dto.UserRoleUpdateRequest;
 import com.dishant.tasks.management.model.Role;
 import com.dishant.tasks.management.service.AdminService;
+import com.dishant.tasks.management.service.TaskArchiveService;
+import com.dishant.tasks.management.service.TaskExportService;
+import com.dishant.tasks.management.service.TaskSearchService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.util.List;
 import java.util.Map;
 
 import static com.dishant.tasks.management.model.Role.ADMIN;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class AdminControllerTest {
@@ -22,6 +32,15 @@ class AdminControllerTest {
     @Mock
     private AdminService adminService;
 
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private TaskSearchService taskSearchService;
+
+    @Mock
+    private TaskArchiveService taskArchiveService;
+
     @InjectMocks
     private AdminController adminController;
 
@@ -84,4 +103,47 @@ class AdminControllerTest {
         assertEquals(10, response.getBody().get("totalUsers"));
         verify(adminService).getDashboardStats();
     }
+
+    @Test
+    void testExportTasks_streamsCsvWithGzipWhenAccepted() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = adminController.exportTasks("csv", "gzip, deflate");
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("text/csv;charset=UTF-8", response.getHeaders().getContentType().toString());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getHeaders().getContentDisposition().getFilename().endsWith(".csv"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        verify(taskExportService).export(TaskExportService.Format.CSV, true, out);
+    }
+
+    @Test
+    void testExportTasks_defaultsToPlainNdjson() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = adminController.exportTasks("ndjson", null);
+
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        response.getBody().writeTo(new ByteArrayOutputStream());
+        verify(taskExportService).export(eq(TaskExportService.Format.NDJSON), eq(false), any());
+    }
+
+    @Test
+    void testReindexTasks_conflictWhileRebuildRuns() {
+        when(taskSearchService.startRebuild()).thenReturn(true, false);
+
+        assertEquals(202, adminController.reindexTasks().getStatusCode().value());
+        assertEquals(409, adminController.reindexTasks().getStatusCode().value());
+    }
+
+    @Test
+    void testGetArchivedTasks() {
+        TaskPageResponse page = TaskPageResponse.builder().items(List.of()).hasMore(false).build();
+        when(taskArchiveService.getArchivedTaskPage(7L, "abc", 20)).thenReturn(page);
+
+        ResponseEntity<TaskPageResponse> response = adminController.getArchivedTasks(7L, "abc", 20);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertSame(page, response.getBody());
+    }
 }
@@ -1,16 +1,31 @@
 package com.dishant.tasks.management.controller;
 
+import com.dishant.tasks.management.dto.BulkTaskResponse;
+import com.dishant.tasks.management.dto.BulkTaskResult;
+import com.dishant.tasks.management.dto.TaskFilter;
+import com.dishant.tasks.management.dto.TaskPageResponse;
 import com.dishant.tasks.management.dto.TaskRequest;
 import com.dishant.tasks.management.dto.TaskResponse;
 import com.dishant.tasks.management.dto.UpdateTaskRequest;
 import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.dishant.tasks.management.service.TaskSearchService;
 import com.dishant.tasks.management.service.TaskService;
+import com.dishant.tasks.management.service.TaskStreamService;
+import com.dishant.tasks.management.utils.ETagUtil;
+import com.dishant.tasks.management.utils.TaskHelperUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -24,11 +39,23 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private TaskStreamService taskStreamService;
+
+    @Mock
+    private TaskSearchService taskSearchService;
+
+    @Mock
+    private TaskHelperUtil taskHelper;
+
     @InjectMocks
     private TaskController taskController;
 
     private TaskRequest request;
     private TaskResponse response;
+    private MockHttpServletRequest servletRequest;
+    private MockHttpServletResponse servletResponse;
+    private ServletWebRequest webRequest;
 
     @BeforeEach
     void setUp() {
@@ -48,7 +75,13 @@ class TaskControllerTest {
                 .status(TaskStatus.PENDING)
                 .dueDate(request.getDueDate())
                 .username("testuser")
+                .version(2L)
+                .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
                 .build();
+
+        servletRequest = new MockHttpServletRequest("GET", "/v1/api/tasks");
+        servletResponse = new MockHttpServletResponse();
+        webRequest = new ServletWebRequest(servletRequest, servletResponse);
     }
 
     @Test
@@ -62,37 +95,84 @@ class TaskControllerTest {
         verify(taskService, times(1)).createTask(request);
     }
 
+    @Test
+    void testBulkEndpoints_delegateToService() {
+        BulkTaskResponse bulk = BulkTaskResponse.of(List.of(BulkTaskResult.success(0, 201, 1L, response)));
+        UpdateTaskRequest update = UpdateTaskRequest.builder().id(1L).type("flag").value("Flagged").build();
+        when(taskService.createTasks(List.of(request))).thenReturn(bulk);
+        when(taskService.updateTasks(List.of(update))).thenReturn(bulk);
+        when(taskService.deleteTasks(List.of(1L))).thenReturn(bulk);
+
+        assertEquals(bulk, taskController.createTasks(List.of(request)).getBody());
+        assertEquals(bulk, taskController.updateTasks(List.of(update)).getBody());
+        assertEquals(bulk, taskController.deleteTasks(List.of(1L)).getBody());
+        assertEquals(1, bulk.getSucceeded());
+    }
+
     @Test
     void testGetAllTasks() {
         List<TaskResponse> mockTasks = Collections.singletonList(response);
         when(taskService.getAllTasks()).thenReturn(mockTasks);
+        when(taskService.getAllTasksETag()).thenReturn("\"tasks-u1-1-0-0\"");
 
-        ResponseEntity<List<TaskResponse>> result = taskController.getAllTasks();
+        ResponseEntity<List<TaskResponse>> result = taskController.getAllTasks(webRequest);
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
         assertEquals(1, result.getBody().size());
         assertEquals(response.getTitle(), result.getBody().getFirst().getTitle());
+        assertEquals("\"tasks-u1-1-0-0\"", result.getHeaders().getETag());
         verify(taskService, times(1)).getAllTasks();
     }
 
+    @Test
+    void testGetAllTasks_matchingETagSkipsLoadingTheList() {
+        when(taskService.getAllTasksETag()).thenReturn("\"tasks-u1-1-0-0\"");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"tasks-u1-1-0-0\"");
+
+        ResponseEntity<List<TaskResponse>> result = taskController.getAllTasks(webRequest);
+
+        assertNull(result);
+        assertEquals(304, servletResponse.getStatus());
+        verify(taskService, never()).getAllTasks();
+    }
+
     @Test
     void testGetAllTasks_EmptyList() {
         when(taskService.getAllTasks()).thenReturn(Collections.emptyList());
+        when(taskService.getAllTasksETag()).thenReturn("\"tasks-u1-0-0-0\"");
 
-        ResponseEntity<List<TaskResponse>> result = taskController.getAllTasks();
+        ResponseEntity<List<TaskResponse>> result = taskController.getAllTasks(webRequest);
 
         assertEquals(200, result.getStatusCode().value());
         assertTrue(result.getBody().isEmpty());
         verify(taskService).getAllTasks();
     }
 
+    @Test
+    void testGetTaskPage() {
+        TaskFilter filter = TaskFilter.builder().limit(1).build();
+        TaskPageResponse page = TaskPageResponse.builder()
+                .items(List.of(response))
+                .nextCursor("cursor")
+                .hasMore(true)
+                .build();
+        when(taskService.getTaskPage(filter)).thenReturn(page);
+
+        ResponseEntity<TaskPageResponse> result = taskController.getTaskPage(filter);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertNotNull(result.getBody());
+        assertEquals(1, result.getBody().getItems().size());
+        assertEquals("cursor", result.getBody().getNextCursor());
+        verify(taskService).getTaskPage(filter);
+    }
 
     @Test
     void testGetTaskById() {
         when(taskService.getTaskById(1L)).thenReturn(response);
 
-        ResponseEntity<TaskResponse> result = taskController.getTaskById(1L);
+        ResponseEntity<TaskResponse> result = taskController.getTaskById(1L, webRequest);
 
         assertEquals(200, result.getStatusCode().value());
         assertNotNull(result.getBody());
@@ -100,12 +180,36 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    @Test
+    void testGetTaskById_matchingETagAnswers304() {
+        when(taskService.getTaskById(1L)).thenReturn(response);
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ETagUtil.task(response));
+
+        ResponseEntity<TaskResponse> result = taskController.getTaskById(1L, webRequest);
+
+        assertNull(result);
+        assertEquals(304, servletResponse.getStatus());
+        assertEquals(ETagUtil.task(response), servletResponse.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testGetTaskById_staleETagReturnsBody() {
+        when(taskService.getTaskById(1L)).thenReturn(response);
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"task-1-1-0\"");
+
+        ResponseEntity<TaskResponse> result = taskController.getTaskById(1L, webRequest);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(ETagUtil.task(response), result.getHeaders().getETag());
+        assertEquals(response, result.getBody());
+    }
+
     @Test
     void testGetTaskById_NotFound() {
         when(taskService.getTaskById(99L)).thenThrow(new RuntimeException("Task not found"));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            taskController.getTaskById(99L);
+            taskController.getTaskById(99L, webRequest);
         });
 
         assertEquals("Task not found", exception.getMessage());
@@ -149,4 +253,26 @@ class TaskControllerTest {
         assertEquals(204, result.getStatusCode().value());
         verify(taskService, times(1)).deleteTask(1L);
     }
+
+    @Test
+    void testStreamTasks() {
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "john", Role.USER);
+        SseEmitter emitter = new SseEmitter();
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        when(taskStreamService.subscribe(principal)).thenReturn(emitter);
+
+        assertSame(emitter, taskController.streamTasks());
+    }
+
+    @Test
+    void testSearchTasks() {
+        when(taskService.getAllTasks()).thenReturn(List.of());
+        when(taskSearchService.search("report", 5)).thenReturn(List.of(response));
+
+        ResponseEntity<List<TaskResponse>> result = taskController.searchTasks("report", 5);
+
+        assertEquals(200, result.getStatusCode().value());
+        assertEquals(List.of(response), result.getBody());
+        verify(taskService, never()).getAllTasks();
+    }
 }
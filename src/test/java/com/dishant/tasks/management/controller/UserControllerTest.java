@@ -6,12 +6,18 @@ import com.dishant.tasks.management.dto.UserResponse;
 import com.dishant.tasks.management.model.Role;
 import com.dishant.tasks.management.model.User;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.UserPrincipalCache;
+import com.dishant.tasks.management.utils.ETagUtil;
 import com.dishant.tasks.management.utils.TaskHelperUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +36,9 @@ class UserControllerTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
     @InjectMocks
     private UserController userController;
 
@@ -53,14 +62,47 @@ class UserControllerTest {
     void testGetCurrentProfile() {
         when(taskHelper.getCurrentUser()).thenReturn(testUser);
 
-        ResponseEntity<UserResponse> response = userController.getProfile();
+        ResponseEntity<UserResponse> response = userController.getProfile(webRequest());
 
         assertEquals(200, response.getStatusCode().value());
         assertNotNull(response.getBody());
         assertEquals("Dishant", response.getBody().getName());
+        assertEquals(ETagUtil.profile(new UserResponse(testUser)), response.getHeaders().getETag());
         verify(taskHelper, times(1)).getCurrentUser();
     }
 
+    @Test
+    void testGetCurrentProfile_unchangedProfileAnswers304() {
+        when(taskHelper.getCurrentUser()).thenReturn(testUser);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users/me");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETagUtil.profile(new UserResponse(testUser)));
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        ResponseEntity<UserResponse> response = userController.getProfile(new ServletWebRequest(request, servletResponse));
+
+        assertNull(response);
+        assertEquals(304, servletResponse.getStatus());
+    }
+
+    @Test
+    void testGetCurrentProfile_changedProfileReturnsBody() {
+        String before = ETagUtil.profile(new UserResponse(testUser));
+        testUser.setEmail("new@example.com");
+        when(taskHelper.getCurrentUser()).thenReturn(testUser);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/api/users/me");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, before);
+
+        ResponseEntity<UserResponse> response = userController.getProfile(
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("new@example.com", response.getBody().getEmail());
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/v1/api/users/me"), new MockHttpServletResponse());
+    }
+
     @Test
     void testGetAllUsers_AsAdmin() {
         User anotherUser = User.builder()
@@ -92,6 +134,7 @@ class UserControllerTest {
         assertEquals(200, response.getStatusCode().value());
         assertEquals("Profile updated successfully", response.getBody());
         verify(userRepository, times(1)).save(testUser);
+        verify(principalCache).evict(testUser);
 
         assertEquals("Updated Name", testUser.getName());
         assertEquals("updated@email.com", testUser.getEmail());
@@ -110,6 +153,7 @@ class UserControllerTest {
         assertEquals(200, response.getStatusCode().value());
         assertEquals("Password updated successfully", response.getBody());
         verify(userRepository, times(1)).save(testUser);
+        verify(principalCache).evict(testUser);
         assertEquals("encodedNewPassword", testUser.getPassword());
     }
 
@@ -0,0 +1,70 @@
+package com.dishant.tasks.management.listener;
+
+import com.dishant.tasks.management.service.TaskIngestService;
+import com.example.kafka.avro.TaskEventSchema;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskKafkaListenerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("task-topic", 0);
+
+    @Mock
+    private TaskIngestService taskIngestService;
+
+    @InjectMocks
+    private TaskKafkaListener listener;
+
+    @Captor
+    private ArgumentCaptor<List<ConsumerRecord<String, TaskEventSchema>>> recordsCaptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testConsume_skipsRedeliveredRecordsWithoutCallingIngest() {
+        when(taskIngestService.ingest(any())).thenReturn(Map.of(PARTITION, 1L));
+        listener.consume(List.of(eventRecord(0), eventRecord(1)));
+
+        listener.consume(List.of(eventRecord(0), eventRecord(1)));
+
+        verify(taskIngestService, times(1)).ingest(any());
+    }
+
+    @Test
+    void testConsume_passesOnlyUnseenRecords() {
+        when(taskIngestService.ingest(any())).thenReturn(Map.of(PARTITION, 1L), Map.of(PARTITION, 2L));
+        listener.consume(List.of(eventRecord(0), eventRecord(1)));
+
+        listener.consume(List.of(eventRecord(1), eventRecord(2)));
+
+        verify(taskIngestService, times(2)).ingest(recordsCaptor.capture());
+        assertEquals(List.of(2L), recordsCaptor.getAllValues().get(1).stream().map(ConsumerRecord::offset).toList());
+    }
+
+    @Test
+    void testConsume_failedIngestDoesNotMarkRecordsProcessed() {
+        when(taskIngestService.ingest(any())).thenThrow(new RuntimeException("db down")).thenReturn(Map.of(PARTITION, 0L));
+
+        assertThrows(RuntimeException.class, () -> listener.consume(List.of(eventRecord(0))));
+        listener.consume(List.of(eventRecord(0)));
+
+        verify(taskIngestService, times(2)).ingest(any());
+    }
+
+    private static ConsumerRecord<String, TaskEventSchema> eventRecord(long offset) {
+        return new ConsumerRecord<>("task-topic", 0, offset, null, null);
+    }
+}
@@ -0,0 +1,64 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.model.EmailOutbox;
+import com.dishant.tasks.management.model.EmailStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class EmailOutboxRepositoryTest {
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void lockDue_returnsOnlyDuePendingMessagesOldestFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox older = save("a@example.com", EmailStatus.PENDING, now.minusMinutes(10));
+        EmailOutbox newer = save("b@example.com", EmailStatus.PENDING, now.minusMinutes(1));
+        save("c@example.com", EmailStatus.PENDING, now.plusMinutes(5));
+        save("d@example.com", EmailStatus.SENT, now.minusMinutes(20));
+        save("e@example.com", EmailStatus.FAILED, now.minusMinutes(20));
+
+        List<EmailOutbox> due = emailOutboxRepository.lockDue(EmailStatus.PENDING, now, Limit.of(10));
+
+        assertEquals(List.of(older.getId(), newer.getId()), due.stream().map(EmailOutbox::getId).toList());
+        assertEquals(1, emailOutboxRepository.lockDue(EmailStatus.PENDING, now, Limit.of(1)).size());
+    }
+
+    @Test
+    void markSent_updatesStatusAndAttempts() {
+        EmailOutbox email = save("a@example.com", EmailStatus.PENDING, LocalDateTime.now());
+
+        int updated = emailOutboxRepository.markSent(List.of(email.getId()), EmailStatus.SENT, LocalDateTime.now());
+        entityManager.clear();
+
+        assertEquals(1, updated);
+        EmailOutbox reloaded = emailOutboxRepository.findById(email.getId()).orElseThrow();
+        assertEquals(EmailStatus.SENT, reloaded.getStatus());
+        assertEquals(1, reloaded.getAttempts());
+        assertNotNull(reloaded.getSentAt());
+    }
+
+    private EmailOutbox save(String recipient, EmailStatus status, LocalDateTime nextAttemptAt) {
+        return entityManager.persistFlushFind(EmailOutbox.builder()
+                .recipient(recipient)
+                .subject("Subject")
+                .body("Body")
+                .status(status)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
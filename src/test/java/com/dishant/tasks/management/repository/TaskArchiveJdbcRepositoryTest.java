@@ -0,0 +1,112 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Needs committed rows and a second connection, so the test is not wrapped in a transaction
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TaskArchiveJdbcRepository.class)
+class TaskArchiveJdbcRepositoryTest {
+
+    @Autowired
+    private TaskArchiveJdbcRepository taskArchiveJdbcRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User creator = userRepository.save(User.builder()
+                .username("creator")
+                .email("creator@example.com")
+                .role(Role.USER)
+                .enabled(true)
+                .build());
+        LocalDateTime now = LocalDateTime.now();
+        // Ids ascend while the last change gets older, so id order and archive order differ
+        for (int i = 0; i < 4; i++) {
+            Long id = taskRepository.save(Task.builder().title("Task " + i).user(creator).build()).getId();
+            jdbcTemplate.update("update tasks set status = ?, updated_at = ? where id = ?",
+                    TaskStatus.COMPLETED.name(), Timestamp.valueOf(now.minusDays(100 + i)), id);
+            taskIds.add(id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from tasks_archive");
+        jdbcTemplate.update("delete from tasks");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void archive_locksAndReturnsOnlyTheOldestBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            List<TaskSnapshot> batch = taskArchiveJdbcRepository.archive(TaskStatus.COMPLETED, now.minusDays(90), 2, now);
+            assertEquals(List.of(taskIds.get(3), taskIds.get(2)), batch.stream().map(TaskSnapshot::id).toList());
+
+            // While the batch's transaction is open, another one can still lock the rest
+            try (Connection other = dataSource.getConnection()) {
+                other.setAutoCommit(false);
+                try (Statement statement = other.createStatement()) {
+                    statement.execute("set lock_timeout 200");
+                }
+                assertTrue(lockRow(other, taskIds.get(0)));
+                assertTrue(lockRow(other, taskIds.get(1)));
+                assertThrows(SQLException.class, () -> lockRow(other, taskIds.get(3)));
+                other.rollback();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            status.setRollbackOnly();
+        });
+    }
+
+    private static boolean lockRow(Connection connection, Long id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select id from tasks where id = ? for update")) {
+            statement.setLong(1, id);
+            return statement.executeQuery().next();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.dishant.tasks.management.repository;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.*;
+import com.dishant.tasks.management.security.UserPrincipalCache;
+import com.dishant.tasks.management.utils.TaskHelperUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.dishant.tasks.management.repository.TaskSpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "task.export.fetch-size=5"
+})
+@Import({TaskJdbcRepository.class, TaskArchiveJdbcRepository.class, SchedulerLogJdbcRepository.class})
+class TaskRepositoryTest {
+
+    private static final int TASK_COUNT = 10;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Autowired
+    private TaskArchiveJdbcRepository taskArchiveJdbcRepository;
+
+    @Autowired
+    private SchedulerLogJdbcRepository schedulerLogJdbcRepository;
+
+    @Autowired
+    private TaskChangeOutboxRepository taskChangeOutboxRepository;
+
+    @Autowired
+    private SchedulerLogRepository schedulerLogRepository;
+
+    @Autowired
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TaskHelperUtil taskHelper;
+    private Statistics statistics;
+    private User creator;
+    private Long firstTaskId;
+
+    @BeforeEach
+    void setUp() {
+        taskHelper = new TaskHelperUtil(taskRepository, userRepository, new UserPrincipalCache(Duration.ofSeconds(30), 100));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        creator = entityManager.persist(user("creator"));
+        for (int i = 0; i < TASK_COUNT; i++) {
+            // A distinct assignee per task is the worst case for lazy loading
+            User assignee = entityManager.persist(user("assignee" + i));
+            Task task = entityManager.persist(Task.builder()
+                    .title("Task " + i)
+                    .dueDate(LocalDateTime.now().plusDays(i))
+                    .user(creator)
+                    .assignedTo(assignee)
+                    .priority(TaskPriority.MEDIUM)
+                    .build());
+            if (firstTaskId == null) {
+                firstTaskId = task.getId();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findByStatusNot_mapsWholeListInSingleStatement() {
+        List<TaskResponse> responses = taskRepository.findByStatusNot(TaskStatus.COMPLETED).stream()
+                .map(taskHelper::mapToResponse)
+                .toList();
+
+        assertEquals(TASK_COUNT, responses.size());
+        assertTrue(responses.stream().allMatch(r -> "creator".equals(r.getUsername()) && r.getAssignedToUsername() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByUserIdAndStatusNot_mapsWholeListInSingleStatement() {
+        List<TaskResponse> responses = taskRepository.findByUserIdAndStatusNot(creator.getId(), TaskStatus.COMPLETED).stream()
+                .map(taskHelper::mapToResponse)
+                .toList();
+
+        assertEquals(TASK_COUNT, responses.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithUsersById_mapsInSingleStatement() {
+        TaskResponse response = taskHelper.mapToResponse(taskHelper.getTaskOrThrow(firstTaskId));
+
+        assertEquals("creator", response.getUsername());
+        assertEquals("assignee0", response.getAssignedToUsername());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithUsersByIdIn_mapsAllTasksInSingleStatement() {
+        List<Task> tasks = taskRepository.findWithUsersByIdIn(List.of(firstTaskId, firstTaskId + 1, firstTaskId + 2));
+
+        assertEquals(3, tasks.size());
+        tasks.forEach(taskHelper::mapToResponse);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void keysetPage_mapsWholePageInSingleStatement() {
+        List<TaskResponse> responses = taskRepository.findBy(
+                        hasStatus(null),
+                        query -> query.sortBy(KEYSET_SORT).project(TASK_USER_ASSOCIATIONS).limit(5).all())
+                .stream()
+                .map(taskHelper::mapToResponse)
+                .toList();
+
+        assertEquals(5, responses.size());
+        assertTrue(responses.stream().allMatch(r -> r.getAssignedToUsername() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void closeAll_isIdempotentAndSkipsClosedTasks() {
+        LocalDateTime dueBefore = LocalDateTime.now().plusDays(2).plusHours(1);
+        List<Long> dueIds = dueIds(taskRepository.findDueTasks(TaskStatus.PENDING, dueBefore, null, 0, Limit.of(100)));
+        assertEquals(3, dueIds.size());
+
+        assertEquals(3, taskRepository.closeAll(dueIds, TaskStatus.COMPLETED, LocalDateTime.now()));
+        assertEquals(0, taskRepository.closeAll(dueIds, TaskStatus.COMPLETED, LocalDateTime.now()));
+        assertTrue(taskRepository.findDueTasks(TaskStatus.PENDING, dueBefore, null, 0, Limit.of(100)).isEmpty());
+    }
+
+    @Test
+    void closeAll_bumpsVersion() {
+        assertEquals(0L, taskRepository.findById(firstTaskId).orElseThrow().getVersion());
+        entityManager.clear();
+
+        taskRepository.closeAll(List.of(firstTaskId), TaskStatus.COMPLETED, LocalDateTime.now());
+
+        assertEquals(1L, taskRepository.findById(firstTaskId).orElseThrow().getVersion());
+    }
+
+    @Test
+    void findListVersion_changesWithTheList() {
+        TaskRepository.ListVersion initial = taskRepository.findListVersionByUserId(creator.getId(), TaskStatus.COMPLETED);
+        assertEquals(TASK_COUNT, initial.getCount());
+        assertEquals(0, initial.getVersionSum());
+        assertNotNull(initial.getLastUpdatedAt());
+
+        Task task = taskRepository.findById(firstTaskId).orElseThrow();
+        task.setFlag("Flagged");
+        taskRepository.saveAndFlush(task);
+        TaskRepository.ListVersion updated = taskRepository.findListVersionByUserId(creator.getId(), TaskStatus.COMPLETED);
+        assertEquals(TASK_COUNT, updated.getCount());
+        assertEquals(1, updated.getVersionSum());
+
+        taskRepository.closeAll(List.of(firstTaskId), TaskStatus.COMPLETED, LocalDateTime.now());
+        assertEquals(TASK_COUNT - 1, taskRepository.findListVersion(TaskStatus.COMPLETED).getCount());
+        assertEquals(0, taskRepository.findListVersionByUserId(-1L, TaskStatus.COMPLETED).getCount());
+    }
+
+    @Test
+    void findDueTasks_pagesOneStatusByDueDateKeyset() {
+        LocalDateTime dueBefore = LocalDateTime.now().plusDays(TASK_COUNT);
+        taskRepository.closeAll(List.of(firstTaskId + 1), TaskStatus.COMPLETED, LocalDateTime.now());
+        Task inProgress = taskRepository.findById(firstTaskId + 2).orElseThrow();
+        inProgress.setStatus(TaskStatus.IN_PROGRESS);
+        taskRepository.saveAndFlush(inProgress);
+
+        List<TaskRepository.DueTask> firstChunk = taskRepository.findDueTasks(TaskStatus.PENDING, dueBefore, null, 0, Limit.of(4));
+        TaskRepository.DueTask last = firstChunk.getLast();
+        List<TaskRepository.DueTask> secondChunk = taskRepository.findDueTasks(TaskStatus.PENDING, dueBefore,
+                last.getDueDate(), last.getId(), Limit.of(4));
+
+        assertEquals(List.of(firstTaskId, firstTaskId + 3, firstTaskId + 4, firstTaskId + 5), dueIds(firstChunk));
+        assertEquals(List.of(firstTaskId + 6, firstTaskId + 7, firstTaskId + 8, firstTaskId + 9), dueIds(secondChunk));
+        assertEquals(List.of(firstTaskId + 2),
+                dueIds(taskRepository.findDueTasks(TaskStatus.IN_PROGRESS, dueBefore, null, 0, Limit.of(4))));
+    }
+
+    @Test
+    void findDueTasksInShard_returnsOnlyTheShardsTasksByDueDateKeyset() {
+        LocalDateTime dueBefore = LocalDateTime.now().plusDays(TASK_COUNT);
+        List<Task> tasks = taskRepository.findAllById(List.of(firstTaskId, firstTaskId + 1, firstTaskId + 2, firstTaskId + 3));
+        for (Task task : tasks) {
+            task.setShard(task.getId() == firstTaskId + 1 ? 6 : 5);
+        }
+        taskRepository.saveAllAndFlush(tasks);
+
+        List<TaskRepository.DueTask> firstChunk = taskRepository.findDueTasksInShard(TaskStatus.PENDING, 5, dueBefore, null, 0, Limit.of(2));
+        TaskRepository.DueTask last = firstChunk.getLast();
+        List<TaskRepository.DueTask> secondChunk = taskRepository.findDueTasksInShard(TaskStatus.PENDING, 5, dueBefore,
+                last.getDueDate(), last.getId(), Limit.of(2));
+
+        assertEquals(List.of(firstTaskId, firstTaskId + 2), dueIds(firstChunk));
+        assertEquals(List.of(firstTaskId + 3), dueIds(secondChunk));
+        assertEquals(List.of(firstTaskId + 1),
+                dueIds(taskRepository.findDueTasksInShard(TaskStatus.PENDING, 6, dueBefore, null, 0, Limit.of(2))));
+    }
+
+    @Test
+    void save_assignsEveryNewTaskAShard() {
+        assertTrue(taskRepository.findAll().stream()
+                .allMatch(task -> task.getShard() != null && task.getShard() >= 0 && task.getShard() < Task.SHARD_COUNT));
+    }
+
+    @Test
+    void insertAll_writesTasksReadableThroughJpa() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = List.of(
+                Task.builder().title("Imported 1").status(TaskStatus.PENDING).flag("Unflagged")
+                        .priority(TaskPriority.MEDIUM).dueDate(now.plusDays(1)).createdAt(now).updatedAt(now)
+                        .user(creator).build(),
+                Task.builder().title("Imported 2").status(TaskStatus.PENDING).flag("Unflagged")
+                        .priority(TaskPriority.MEDIUM).dueDate(now.plusDays(2)).createdAt(now).updatedAt(now)
+                        .user(creator).build());
+
+        assertEquals(2, taskJdbcRepository.insertAll(tasks));
+        assertTrue(tasks.stream().allMatch(t -> t.getId() != null && t.getId() > firstTaskId));
+        assertTrue(tasks.stream().allMatch(t -> t.getShard() != null && t.getShard() < Task.SHARD_COUNT));
+
+        List<Task> saved = taskRepository.findByUserIdAndStatusNot(creator.getId(), TaskStatus.COMPLETED);
+        assertEquals(TASK_COUNT + 2, saved.size());
+        assertTrue(saved.stream().anyMatch(t -> "Imported 2".equals(t.getTitle()) && t.getAssignedTo() == null));
+    }
+
+    @Test
+    void forEachTask_streamsAllTasksInIdOrderWithUsernames() {
+        List<TaskResponse> exported = new ArrayList<>();
+
+        taskJdbcRepository.forEachTask(exported::add);
+
+        assertEquals(TASK_COUNT, exported.size());
+        assertEquals(firstTaskId, exported.getFirst().getId());
+        assertTrue(exported.stream().allMatch(t -> "creator".equals(t.getUsername())));
+        assertEquals("assignee0", exported.getFirst().getAssignedToUsername());
+        assertEquals(TaskStatus.PENDING, exported.getFirst().getStatus());
+        assertEquals(0L, exported.getFirst().getVersion());
+        for (int i = 1; i < exported.size(); i++) {
+            assertTrue(exported.get(i).getId() > exported.get(i - 1).getId());
+        }
+    }
+
+    @Test
+    void forEachSearchDocument_readsOwnerAndText() {
+        List<TaskJdbcRepository.SearchDocument> documents = new ArrayList<>();
+
+        taskJdbcRepository.forEachSearchDocument(documents::add);
+
+        assertEquals(TASK_COUNT, documents.size());
+        assertEquals(new TaskJdbcRepository.SearchDocument(firstTaskId, creator.getId(), "Task 0", null), documents.getFirst());
+    }
+
+    @Test
+    void countGroupByStatus_countsAllStatusesInOneQuery() {
+        taskRepository.closeAll(List.of(firstTaskId), TaskStatus.COMPLETED, LocalDateTime.now());
+        statistics.clear();
+
+        List<TaskRepository.StatusCount> counts = taskRepository.countGroupByStatus();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(TASK_COUNT - 1, counts.stream().filter(c -> c.getStatus() == TaskStatus.PENDING).findFirst().orElseThrow().getCount());
+        assertEquals(1, counts.stream().filter(c -> c.getStatus() == TaskStatus.COMPLETED).findFirst().orElseThrow().getCount());
+    }
+
+    @Test
+    void lockOpenTasks_returnsOnlyTasksStillOpen() {
+        taskRepository.closeAll(List.of(firstTaskId), TaskStatus.COMPLETED, LocalDateTime.now());
+
+        List<Task> open = taskRepository.lockOpenTasks(List.of(firstTaskId, firstTaskId + 1), TaskStatus.COMPLETED,
+                LocalDateTime.now().plusDays(TASK_COUNT));
+
+        assertEquals(List.of(firstTaskId + 1), open.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void lockOpenTasks_skipsTasksNotYetDue() {
+        List<Task> open = taskRepository.lockOpenTasks(List.of(firstTaskId + 1, firstTaskId + 5), TaskStatus.COMPLETED,
+                LocalDateTime.now().plusDays(2));
+
+        assertEquals(List.of(firstTaskId + 1), open.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void findUpcomingDueTasks_returnsOpenTasksInWindowByDueDate() {
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.closeAll(List.of(firstTaskId + 2), TaskStatus.COMPLETED, now);
+
+        List<TaskRepository.DueTask> upcoming = taskRepository.findUpcomingDueTasks(now.plusHours(12), now.plusDays(4).plusHours(12),
+                TaskStatus.COMPLETED, Limit.of(2));
+
+        assertEquals(List.of(firstTaskId + 1, firstTaskId + 3), upcoming.stream().map(TaskRepository.DueTask::getId).toList());
+        assertNotNull(upcoming.getFirst().getDueDate());
+    }
+
+    @Test
+    void insertAll_writesEverySchedulerLogRow() {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        schedulerLogJdbcRepository.insertAll(List.of(
+                SchedulerLog.builder().systemName("node-1").status("SUCCESS").startTime(now).endTime(now).remarks("chunk").build(),
+                SchedulerLog.builder().taskId(firstTaskId).systemName("node-1").status("FAILURE").startTime(now).endTime(now).build()));
+
+        List<SchedulerLog> logs = schedulerLogRepository.findAll();
+        assertEquals(2, logs.size());
+        assertEquals(firstTaskId, logs.stream().filter(l -> "FAILURE".equals(l.getStatus())).findFirst().orElseThrow().getTaskId());
+    }
+
+    @Test
+    void archive_movesOldCompletedTasksInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.closeAll(List.of(firstTaskId, firstTaskId + 1), TaskStatus.COMPLETED, now.minusDays(100));
+        taskRepository.closeAll(List.of(firstTaskId + 2), TaskStatus.COMPLETED, now.minusDays(120));
+        taskRepository.closeAll(List.of(firstTaskId + 3), TaskStatus.COMPLETED, now);
+
+        List<TaskSnapshot> first = taskArchiveJdbcRepository.archive(TaskStatus.COMPLETED, now.minusDays(90), 2, now);
+        List<TaskSnapshot> second = taskArchiveJdbcRepository.archive(TaskStatus.COMPLETED, now.minusDays(90), 2, now);
+        entityManager.clear();
+
+        // Oldest change first, then by id
+        assertEquals(List.of(firstTaskId + 2, firstTaskId), first.stream().map(TaskSnapshot::id).toList());
+        assertEquals(List.of(firstTaskId + 1), second.stream().map(TaskSnapshot::id).toList());
+        assertEquals(creator.getId(), first.getFirst().ownerId());
+        assertEquals(TASK_COUNT - 3, taskRepository.count());
+
+        TaskArchive archived = taskArchiveRepository.findById(firstTaskId).orElseThrow();
+        assertEquals("Task 0", archived.getTitle());
+        assertEquals(TaskStatus.COMPLETED, archived.getStatus());
+        assertEquals("creator", archived.getUsername());
+        assertEquals("assignee0", archived.getAssignedToUsername());
+    }
+
+    @Test
+    void findPage_pagesArchivedTasksByKeysetAndCreator() {
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.closeAll(List.of(firstTaskId, firstTaskId + 1, firstTaskId + 2), TaskStatus.COMPLETED, now.minusDays(100));
+        taskArchiveJdbcRepository.archive(TaskStatus.COMPLETED, now.minusDays(90), 10, now);
+
+        List<TaskArchive> firstPage = taskArchiveRepository.findPage(null, null, null, Limit.of(2));
+        TaskArchive last = firstPage.getLast();
+        List<TaskArchive> secondPage = taskArchiveRepository.findPage(creator.getId(), last.getCreatedAt(), last.getId(), Limit.of(2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertTrue(taskArchiveRepository.findPage(-1L, null, null, Limit.of(2)).isEmpty());
+    }
+
+    @Test
+    void deleteStartedBefore_deletesOnlySchedulerLogsStartedBeforeCutoff() {
+        Timestamp old = Timestamp.valueOf(LocalDateTime.now().minusDays(40));
+        Timestamp recent = new Timestamp(System.currentTimeMillis());
+        schedulerLogJdbcRepository.insertAll(List.of(
+                SchedulerLog.builder().systemName("node-1").status("SUCCESS").startTime(old).build(),
+                SchedulerLog.builder().systemName("node-1").status("SUCCESS").startTime(old).build(),
+                SchedulerLog.builder().systemName("node-1").status("SUCCESS").startTime(recent).build()));
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(30));
+
+        assertEquals(1, schedulerLogJdbcRepository.deleteStartedBefore(cutoff, 1));
+        assertEquals(1, schedulerLogJdbcRepository.deleteStartedBefore(cutoff, 1));
+        assertEquals(0, schedulerLogJdbcRepository.deleteStartedBefore(cutoff, 1));
+        assertEquals(List.of(recent), schedulerLogRepository.findAll().stream().map(SchedulerLog::getStartTime).toList());
+    }
+
+    @Test
+    void insertChanges_writesOutboxRowsInOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskSnapshot> changes = List.of(
+                new TaskSnapshot(firstTaskId, 1L, null, TaskStatus.COMPLETED, TaskStatus.PENDING, now),
+                new TaskSnapshot(firstTaskId + 1, 1L, 2L, TaskStatus.COMPLETED, TaskStatus.PENDING, null));
+
+        taskJdbcRepository.insertChanges(TaskChangeType.CLOSED, changes, now);
+
+        List<TaskChangeOutbox> outbox = taskChangeOutboxRepository.findAllByOrderByIdAsc(Limit.of(10));
+        assertEquals(List.of(firstTaskId, firstTaskId + 1), outbox.stream().map(TaskChangeOutbox::getTaskId).toList());
+        assertEquals(TaskChangeType.CLOSED, outbox.get(0).getEventType());
+        assertEquals(TaskStatus.PENDING, outbox.get(0).getPreviousStatus());
+        assertNull(outbox.get(0).getAssigneeId());
+        assertEquals(2L, outbox.get(1).getAssigneeId());
+        assertEquals(1, taskChangeOutboxRepository.findAllByOrderByIdAsc(Limit.of(1)).size());
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .role(Role.USER)
+                .enabled(true)
+                .build();
+    }
+
+    private static List<Long> dueIds(List<TaskRepository.DueTask> tasks) {
+        return tasks.stream().map(TaskRepository.DueTask::getId).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskRepository;
+import com.dishant.tasks.management.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DueTaskTimerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskService taskService;
+
+    @InjectMocks
+    private DueTaskTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(timer, "enabled", true);
+        ReflectionTestUtils.setField(timer, "tick", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(timer, "wheelSize", 64);
+        ReflectionTestUtils.setField(timer, "window", Duration.ofHours(1));
+        ReflectionTestUtils.setField(timer, "capacity", 100);
+        timer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+
+    @Test
+    void testRefill_closesLoadedTasksOnceDue() {
+        LocalDateTime dueDate = LocalDateTime.now().plusNanos(200_000_000);
+        TaskRepository.DueTask dueTask = mock(TaskRepository.DueTask.class);
+        when(dueTask.getId()).thenReturn(7L);
+        when(dueTask.getDueDate()).thenReturn(dueDate);
+        when(taskRepository.findUpcomingDueTasks(any(), any(), eq(TaskStatus.COMPLETED), any())).thenReturn(List.of(dueTask));
+
+        timer.refill();
+
+        assertEquals(1, timer.size());
+        verify(taskService, timeout(2000)).closeExpiredTasks(List.of(7L));
+        assertFalse(LocalDateTime.now().isBefore(dueDate));
+        assertEquals(0, timer.size());
+    }
+
+    @Test
+    void testOnTaskChanged_tracksDueDateChanges() {
+        LocalDateTime later = LocalDateTime.now().plusMinutes(30);
+        timer.onTaskChanged(TaskChangedEvent.of(TaskChangeType.CREATED, snapshot(1L, TaskStatus.PENDING, later)));
+        timer.onTaskChanged(TaskChangedEvent.of(TaskChangeType.CREATED, snapshot(2L, TaskStatus.PENDING, later)));
+        timer.onTaskChanged(TaskChangedEvent.of(TaskChangeType.CREATED, snapshot(3L, TaskStatus.PENDING, LocalDateTime.now().plusDays(1))));
+        assertEquals(2, timer.size());
+
+        timer.onTaskChanged(TaskChangedEvent.of(TaskChangeType.UPDATED, snapshot(1L, TaskStatus.PENDING, LocalDateTime.now().plusNanos(100_000_000))));
+        timer.onTaskChanged(TaskChangedEvent.of(TaskChangeType.DELETED, snapshot(2L, TaskStatus.PENDING, later)));
+
+        verify(taskService, timeout(2000)).closeExpiredTasks(List.of(1L));
+        assertEquals(0, timer.size());
+    }
+
+    @Test
+    void testOnTaskChanged_completedTasksLeaveTheWheel() {
+        LocalDateTime later = LocalDateTime.now().plusMinutes(30);
+        timer.onTaskChanged(TaskChangedEvent.of(TaskChangeType.CREATED, snapshot(1L, TaskStatus.PENDING, later)));
+
+        timer.onTaskChanged(TaskChangedEvent.of(TaskChangeType.UPDATED, snapshot(1L, TaskStatus.COMPLETED, later)));
+
+        assertEquals(0, timer.size());
+    }
+
+    private static TaskSnapshot snapshot(Long id, TaskStatus status, LocalDateTime dueDate) {
+        return new TaskSnapshot(id, 1L, null, status, TaskStatus.PENDING, dueDate);
+    }
+}
@@ -0,0 +1,150 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.EmailOutbox;
+import com.dishant.tasks.management.service.EmailService;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.*;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension smtpServer = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private JavaMailSender javaMailSender;
+
+    @InjectMocks
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(dispatcher, "workers", 2);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 2);
+        ReflectionTestUtils.setField(dispatcher, "from", "noreply@example.com");
+        dispatcher.startWorkers();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stopWorkers();
+    }
+
+    @Test
+    void testDispatch_shouldSendEachBatchInOneCall() {
+        when(emailService.claimDue(4)).thenReturn(emails(1, 4), emails(5, 5));
+
+        dispatcher.dispatch();
+
+        // Two full batches from the first claim, one partial batch from the second
+        verify(javaMailSender, times(3)).send(any(SimpleMailMessage[].class));
+        verify(emailService, times(2)).claimDue(4);
+        List<Long> sent = new ArrayList<>();
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.captor();
+        verify(emailService, times(3)).markSent(captor.capture());
+        captor.getAllValues().forEach(sent::addAll);
+        assertEquals(5, sent.size());
+    }
+
+    @Test
+    void testDispatch_shouldStopWhenNothingIsDue() {
+        when(emailService.claimDue(4)).thenReturn(List.of());
+
+        dispatcher.dispatch();
+
+        verifyNoInteractions(javaMailSender);
+        verify(emailService, never()).markSent(any());
+    }
+
+    @Test
+    void testDeliver_shouldRetryOnlyRejectedMessages() {
+        doAnswer(invocation -> {
+            Object rejected = null;
+            for (Object message : invocation.getArguments()) {
+                if ("user2@example.com".equals(((SimpleMailMessage) message).getTo()[0])) {
+                    rejected = message;
+                }
+            }
+            throw new MailSendException(Map.of(rejected, new Exception("550 no such user")));
+        }).when(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.deliver(emails(1, 2));
+
+        verify(emailService).markSent(List.of(1L));
+        verify(emailService).markFailed(Map.of(2L, "550 no such user"));
+    }
+
+    @Test
+    void testDeliver_shouldRetryWholeBatchOnConnectionFailure() {
+        doThrow(new MailAuthenticationException("535 bad credentials"))
+                .when(javaMailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.deliver(emails(1, 2));
+
+        verify(emailService).markSent(List.of());
+        verify(emailService).markFailed(Map.of(1L, "535 bad credentials", 2L, "535 bad credentials"));
+    }
+
+    @Test
+    void testDeliver_shouldSendThroughSmtpServer() throws Exception {
+        JavaMailSenderImpl smtpSender = new JavaMailSenderImpl();
+        smtpSender.setHost("localhost");
+        smtpSender.setPort(smtpServer.getSmtp().getPort());
+        EmailOutboxDispatcher smtpDispatcher = new EmailOutboxDispatcher(emailService, smtpSender);
+        ReflectionTestUtils.setField(smtpDispatcher, "from", "noreply@example.com");
+
+        smtpDispatcher.deliver(emails(1, 3));
+
+        MimeMessage[] received = smtpServer.getReceivedMessages();
+        assertEquals(3, received.length);
+        assertEquals(List.of("Subject 1", "Subject 2", "Subject 3"),
+                Arrays.stream(received).map(this::subject).sorted().toList());
+        verify(emailService).markFailed(Map.of());
+    }
+
+    private String subject(MimeMessage message) {
+        try {
+            return message.getSubject();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<EmailOutbox> emails(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> EmailOutbox.builder()
+                        .id(id)
+                        .recipient("user" + id + "@example.com")
+                        .subject("Subject " + id)
+                        .body("Body " + id)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,158 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.SchedulerLog;
+import com.dishant.tasks.management.repository.SchedulerLogJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SchedulerLogWriterTest {
+
+    @Mock
+    private SchedulerLogJdbcRepository schedulerLogJdbcRepository;
+
+    @InjectMocks
+    private SchedulerLogWriter writer;
+
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(writer, "capacity", 5);
+        ReflectionTestUtils.setField(writer, "batchSize", 3);
+        ReflectionTestUtils.setField(writer, "maxAttempts", 2);
+        ReflectionTestUtils.setField(writer, "flushInterval", Duration.ofMillis(50));
+        // A failed batch is retried with the same list, so record sizes rather than the lists
+        doAnswer(inv -> batchSizes.add(inv.<List<?>>getArgument(0).size())).when(schedulerLogJdbcRepository).insertAll(any());
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    void testAppend_writesInBatchesOnceBatchSizeIsQueued() {
+        writer.append(log(1));
+        writer.append(log(2));
+        verifyNoInteractions(schedulerLogJdbcRepository);
+
+        writer.append(log(3));
+
+        verify(schedulerLogJdbcRepository, timeout(2000)).insertAll(any());
+        assertEquals(List.of(3), batchSizes);
+    }
+
+    @Test
+    void testFlush_writesPartialBatch() {
+        writer.append(log(1));
+
+        writer.flush();
+
+        assertEquals(List.of(1), batchSizes);
+        assertEquals(0, writer.pending());
+    }
+
+    @Test
+    void testAppend_fullQueueIsWrittenByTheCallerInsteadOfDropped() {
+        ReflectionTestUtils.setField(writer, "batchSize", 100);
+        for (int i = 0; i < 7; i++) {
+            writer.append(log(i));
+        }
+
+        assertEquals(List.of(5), batchSizes);
+        assertEquals(2, writer.pending());
+    }
+
+    @Test
+    void testStop_drainsTheQueue() throws InterruptedException {
+        writer.append(log(1));
+        writer.append(log(2));
+
+        writer.stop();
+
+        assertEquals(List.of(2), batchSizes);
+        assertEquals(0, writer.pending());
+    }
+
+    @Test
+    void testFlush_retriesFailedBatchBeforeLaterOnes() {
+        doThrow(new DataAccessResourceFailureException("down")).doAnswer(inv -> batchSizes.add(inv.<List<?>>getArgument(0).size()))
+                .when(schedulerLogJdbcRepository).insertAll(any());
+        writer.append(log(1));
+        writer.flush();
+        assertEquals(1, writer.pending());
+
+        writer.append(log(2));
+        writer.flush();
+
+        assertEquals(List.of(1, 1), batchSizes);
+        assertEquals(0, writer.pending());
+    }
+
+    @Test
+    void testFlush_dropsBatchAfterMaxAttempts() {
+        doThrow(new DataAccessResourceFailureException("down")).when(schedulerLogJdbcRepository).insertAll(any());
+        writer.append(log(1));
+        writer.append(log(2));
+
+        writer.flush();
+        assertEquals(2, writer.pending());
+        writer.flush();
+
+        verify(schedulerLogJdbcRepository, times(2)).insertAll(any());
+        assertEquals(0, writer.pending());
+    }
+
+    @Test
+    void testAppend_fullQueueWithDatabaseDownBacksOffWithoutUsingUpAttempts() {
+        ReflectionTestUtils.setField(writer, "batchSize", 100);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doThrow(new DataAccessResourceFailureException("down"))
+                .doThrow(new DataAccessResourceFailureException("down"))
+                .doAnswer(inv -> batchSizes.add(inv.<List<?>>getArgument(0).size()))
+                .when(schedulerLogJdbcRepository).insertAll(any());
+        writer.append(log(0));
+        writer.flush();
+        for (int i = 1; i <= 5; i++) {
+            writer.append(log(i));
+        }
+
+        long start = System.nanoTime();
+        writer.append(log(6));
+        Duration waited = Duration.ofNanos(System.nanoTime() - start);
+
+        // One retry per wait for room, none of them counted, so the failed batch is not dropped
+        assertTrue(waited.compareTo(Duration.ofMillis(150)) >= 0, "waited " + waited);
+        assertEquals(List.of(1, 5), batchSizes);
+        assertEquals(1, writer.pending());
+    }
+
+    @Test
+    void testAppend_afterStopWritesImmediately() throws InterruptedException {
+        writer.stop();
+
+        writer.append(log(1));
+
+        assertEquals(List.of(1), batchSizes);
+        assertEquals(0, writer.pending());
+    }
+
+    private static SchedulerLog log(int id) {
+        return SchedulerLog.builder().taskId((long) id).systemName("node-1").status("SUCCESS").build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ShardAssignmentServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOps;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private ShardAssignmentService nodeA;
+    private ShardAssignmentService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+    }
+
+    @Test
+    void testAssign_singleNodeOwnsEveryShard() {
+        liveNodes("node-a");
+
+        ShardAssignmentService.Assignment assignment = nodeA.assign();
+
+        assertEquals(IntStream.range(0, Task.SHARD_COUNT).boxed().toList(), assignment.owned());
+        assertTrue(assignment.orphaned().isEmpty());
+        verify(zSetOps).add(eq(ShardAssignmentService.NODES_KEY), eq("node-a"), anyDouble());
+        verify(zSetOps).removeRangeByScore(eq(ShardAssignmentService.NODES_KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+    }
+
+    @Test
+    void testAssign_liveNodesSplitTheShardsWithoutOverlap() {
+        liveNodes("node-a", "node-b");
+
+        List<Integer> ownedByA = nodeA.assign().owned();
+        List<Integer> ownedByB = nodeB.assign().owned();
+
+        assertFalse(ownedByA.isEmpty());
+        assertFalse(ownedByB.isEmpty());
+        Set<Integer> all = new HashSet<>(ownedByA);
+        all.addAll(ownedByB);
+        assertEquals(Task.SHARD_COUNT, all.size());
+        assertEquals(Task.SHARD_COUNT, ownedByA.size() + ownedByB.size());
+    }
+
+    @Test
+    void testAssign_joiningNodeOnlyTakesShardsFromExistingOwners() {
+        liveNodes("node-a", "node-b");
+        List<Integer> ownedByA = nodeA.assign().owned();
+
+        liveNodes("node-a", "node-b", "node-c");
+        List<Integer> ownedByAAfterJoin = nodeA.assign().owned();
+
+        assertTrue(ownedByA.containsAll(ownedByAAfterJoin));
+        assertTrue(ownedByAAfterJoin.size() < ownedByA.size());
+    }
+
+    @Test
+    void testAssign_secondChoiceTakesOverOnlyShardsNotSweptRecently() {
+        liveNodes("node-a", "node-b");
+        List<Integer> ownedByB = nodeB.assign().owned();
+        assertTrue(nodeA.assign().orphaned().isEmpty());
+
+        int stale = ownedByB.get(0);
+        when(redisTemplate.hasKey(ShardAssignmentService.SWEPT_KEY_PREFIX + stale)).thenReturn(false);
+
+        assertEquals(List.of(stale), nodeA.assign().orphaned());
+    }
+
+    @Test
+    void testAssign_redisDownOwnsEveryShard() {
+        when(zSetOps.add(anyString(), anyString(), anyDouble())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(Task.SHARD_COUNT, nodeA.assign().owned().size());
+    }
+
+    @Test
+    void testMarkSwept_keepsMarkerForOrphanWindow() {
+        nodeA.markSwept(7);
+
+        verify(valueOps).set(ShardAssignmentService.SWEPT_KEY_PREFIX + 7, "node-a", Duration.ofHours(2));
+    }
+
+    @Test
+    void testHeartbeat_skippedOutsideShardedMode() {
+        ReflectionTestUtils.setField(nodeA, "closureMode", ClosureMode.BULK);
+
+        nodeA.heartbeat();
+        nodeA.leave();
+
+        verifyNoInteractions(zSetOps);
+    }
+
+    private void liveNodes(String... nodes) {
+        when(zSetOps.rangeByScore(eq(ShardAssignmentService.NODES_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(new LinkedHashSet<>(List.of(nodes)));
+    }
+
+    private ShardAssignmentService node(String nodeId) {
+        ShardAssignmentService node = new ShardAssignmentService(redisTemplate);
+        ReflectionTestUtils.setField(node, "nodeId", nodeId);
+        ReflectionTestUtils.setField(node, "closureMode", ClosureMode.SHARDED);
+        ReflectionTestUtils.setField(node, "membershipTtl", Duration.ofMinutes(3));
+        ReflectionTestUtils.setField(node, "orphanAfter", Duration.ofHours(2));
+        return node;
+    }
+}
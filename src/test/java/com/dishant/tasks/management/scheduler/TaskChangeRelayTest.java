@@ -0,0 +1,101 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.model.TaskChangeOutbox;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.service.TaskChangeOutboxService;
+import com.example.kafka.avro.TaskChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TaskChangeRelayTest {
+
+    @Mock
+    private TaskChangeOutboxService outboxService;
+
+    @Mock
+    private KafkaTemplate<String, TaskChangeEvent> kafkaTemplate;
+
+    @InjectMocks
+    private TaskChangeRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(relay, "topic", "task-changes");
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "sendTimeout", Duration.ofSeconds(1));
+    }
+
+    @Test
+    void testRelay_shouldPublishBatchesAndDeleteAcknowledgedRows() {
+        when(outboxService.nextBatch(2)).thenReturn(changes(1, 2), changes(3, 3));
+        when(kafkaTemplate.send(anyString(), anyString(), any(TaskChangeEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        relay.relay();
+
+        verify(kafkaTemplate, times(3)).send(eq("task-changes"), anyString(), any(TaskChangeEvent.class));
+        verify(outboxService).markPublished(List.of(1L, 2L));
+        verify(outboxService).markPublished(List.of(3L));
+    }
+
+    @Test
+    void testRelay_shouldKeepRowsWhenBrokerFails() {
+        when(outboxService.nextBatch(2)).thenReturn(changes(1, 2));
+        when(kafkaTemplate.send(anyString(), anyString(), any(TaskChangeEvent.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        verify(outboxService, never()).markPublished(any());
+        verify(outboxService, times(1)).nextBatch(2);
+    }
+
+    @Test
+    void testToEvent_shouldKeyByTaskAndKeepNulls() {
+        TaskChangeOutbox change = changes(7, 7).get(0);
+        change.setAssigneeId(null);
+
+        TaskChangeEvent event = TaskChangeRelay.toEvent(change);
+
+        assertEquals(7L, event.getEventId());
+        assertEquals("CLOSED", event.getEventType());
+        assertEquals(107L, event.getTaskId());
+        assertNull(event.getAssigneeId());
+        assertEquals("COMPLETED", event.getStatus());
+        assertEquals("PENDING", event.getPreviousStatus());
+        assertNull(event.getDueDate());
+    }
+
+    private static List<TaskChangeOutbox> changes(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> TaskChangeOutbox.builder()
+                        .id(id)
+                        .eventType(TaskChangeType.CLOSED)
+                        .taskId(100 + id)
+                        .ownerId(1L)
+                        .assigneeId(2L)
+                        .status(TaskStatus.COMPLETED)
+                        .previousStatus(TaskStatus.PENDING)
+                        .occurredAt(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,152 @@
+package com.dishant.tasks.management.scheduler;
+
+import com.dishant.tasks.management.model.SchedulerLog;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskRepository;
+import com.dishant.tasks.management.service.TaskService;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskSchedulerServiceTest {
+
+    @Mock
+    private TaskLockService taskLockService;
+
+    @Mock
+    private ShardAssignmentService shardAssignmentService;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private SchedulerLogWriter schedulerLogWriter;
+
+    @Mock
+    private SimpleLock lease;
+
+    @InjectMocks
+    private TaskSchedulerService schedulerService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(schedulerService, "closureMode", ClosureMode.SHARDED);
+        ReflectionTestUtils.setField(schedulerService, "chunkSize", 2);
+        ReflectionTestUtils.setField(schedulerService, "shardLease", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(schedulerService, "shardMinHold", Duration.ofSeconds(30));
+        when(taskService.closeExpiredTasks(any())).thenAnswer(inv -> inv.<List<Long>>getArgument(0).size());
+        when(taskRepository.findDueTasksInShard(any(), anyInt(), any(), any(), anyLong(), any()))
+                .thenReturn(List.of());
+        when(shardAssignmentService.assign()).thenReturn(new ShardAssignmentService.Assignment(List.of(0, 1, 2, 3), List.of()));
+    }
+
+    @Test
+    void testRunScheduler_sweepsOnlyLeasedShards() {
+        when(taskLockService.leaseShard(anyInt(), any(), any())).thenReturn(Optional.empty());
+        when(taskLockService.leaseShard(eq(1), any(), any())).thenReturn(Optional.of(lease));
+        List<TaskRepository.DueTask> firstChunk = dueTasks(1L, 5L);
+        when(taskRepository.findDueTasksInShard(eq(TaskStatus.PENDING), eq(1), any(LocalDateTime.class), isNull(), eq(0L), eq(Limit.of(2))))
+                .thenReturn(firstChunk);
+        when(taskRepository.findDueTasksInShard(eq(TaskStatus.PENDING), eq(1), any(LocalDateTime.class),
+                eq(firstChunk.getLast().getDueDate()), eq(5L), eq(Limit.of(2))))
+                .thenReturn(dueTasks(9L));
+
+        schedulerService.runScheduler();
+
+        verify(taskLockService, times(4)).leaseShard(anyInt(), eq(Duration.ofMinutes(10)), eq(Duration.ofSeconds(30)));
+        verify(taskService).closeExpiredTasks(List.of(1L, 5L));
+        verify(taskService).closeExpiredTasks(List.of(9L));
+        verify(taskRepository).findDueTasksInShard(eq(TaskStatus.IN_PROGRESS), eq(1), any(), isNull(), eq(0L), any());
+        verify(taskRepository, never()).findDueTasksInShard(eq(TaskStatus.COMPLETED), anyInt(), any(), any(), anyLong(), any());
+        verify(taskRepository, never()).findDueTasksInShard(any(), intThat(shard -> shard != 1), any(), any(), anyLong(), any());
+        verify(lease).unlock();
+        verify(shardAssignmentService).markSwept(1);
+        verify(shardAssignmentService, never()).markSwept(intThat(shard -> shard != 1));
+
+        ArgumentCaptor<SchedulerLog> logs = ArgumentCaptor.forClass(SchedulerLog.class);
+        verify(schedulerLogWriter, times(2)).append(logs.capture());
+        assertTrue(logs.getAllValues().stream()
+                .allMatch(log -> log.getRemarks().endsWith("with status PENDING in shard 1/" + Task.SHARD_COUNT + ".")));
+    }
+
+    @Test
+    void testRunScheduler_releasesLeaseWhenClosingFails() {
+        when(taskLockService.leaseShard(anyInt(), any(), any())).thenReturn(Optional.empty());
+        when(taskLockService.leaseShard(eq(2), any(), any())).thenReturn(Optional.of(lease));
+        when(taskRepository.findDueTasksInShard(any(), eq(2), any(), any(), anyLong(), any())).thenReturn(dueTasks(2L));
+        when(taskService.closeExpiredTasks(List.of(2L))).thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () -> schedulerService.runScheduler());
+        verify(lease).unlock();
+        verify(shardAssignmentService, never()).markSwept(anyInt());
+    }
+
+    @Test
+    void testRunScheduler_takesOverOrphanedShardsAfterOwnedOnes() {
+        when(shardAssignmentService.assign()).thenReturn(new ShardAssignmentService.Assignment(List.of(4), List.of(9)));
+        when(taskLockService.leaseShard(anyInt(), any(), any())).thenReturn(Optional.of(lease));
+        when(taskRepository.findDueTasksInShard(eq(TaskStatus.PENDING), eq(9), any(), isNull(), eq(0L), any()))
+                .thenReturn(dueTasks(12L));
+
+        schedulerService.runScheduler();
+
+        InOrder inOrder = inOrder(taskLockService, shardAssignmentService);
+        inOrder.verify(taskLockService).leaseShard(eq(4), any(), any());
+        inOrder.verify(shardAssignmentService).markSwept(4);
+        inOrder.verify(taskLockService).leaseShard(eq(9), any(), any());
+        inOrder.verify(shardAssignmentService).markSwept(9);
+        verify(taskLockService, times(2)).leaseShard(anyInt(), any(), any());
+        verify(taskService).closeExpiredTasks(List.of(12L));
+    }
+
+    @Test
+    void testRunScheduler_bulkWalksEachOpenStatusByDueDate() {
+        ReflectionTestUtils.setField(schedulerService, "closureMode", ClosureMode.BULK);
+        List<TaskRepository.DueTask> firstChunk = dueTasks(7L, 3L);
+        when(taskRepository.findDueTasks(any(), any(), any(), anyLong(), any())).thenReturn(List.of());
+        when(taskRepository.findDueTasks(eq(TaskStatus.PENDING), any(LocalDateTime.class), isNull(), eq(0L), eq(Limit.of(2))))
+                .thenReturn(firstChunk);
+        when(taskRepository.findDueTasks(eq(TaskStatus.PENDING), any(LocalDateTime.class), eq(firstChunk.getLast().getDueDate()), eq(3L), eq(Limit.of(2))))
+                .thenReturn(dueTasks(4L));
+
+        schedulerService.runScheduler();
+
+        verify(taskService).closeExpiredTasks(List.of(7L, 3L));
+        verify(taskService).closeExpiredTasks(List.of(4L));
+        verify(taskRepository).findDueTasks(eq(TaskStatus.IN_PROGRESS), any(LocalDateTime.class), isNull(), eq(0L), eq(Limit.of(2)));
+        verify(taskRepository, never()).findDueTasks(eq(TaskStatus.COMPLETED), any(), any(), anyLong(), any());
+    }
+
+    private static List<TaskRepository.DueTask> dueTasks(Long... ids) {
+        LocalDateTime dueDate = LocalDateTime.now().minusHours(1);
+        return Arrays.stream(ids).<TaskRepository.DueTask>map(id -> new TaskRepository.DueTask() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDueDate() {
+                return dueDate;
+            }
+        }).toList();
+    }
+}
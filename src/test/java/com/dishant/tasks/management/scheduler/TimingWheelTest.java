@@ -0,0 +1,78 @@
+package com.dishant.tasks.management.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    void testAdvance_firesAtTheFirstTickAfterTheDeadline() {
+        TimingWheel wheel = new TimingWheel(1000, 8, 60_000, START);
+        wheel.schedule(1L, START + 2500);
+
+        assertTrue(wheel.advance(START + 2999).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(START + 3000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testAdvance_cascadesDeadlinesFromUpperLevels() {
+        // 8 slots of 1s, then 8 of 8s: a 50s deadline starts on the second level
+        TimingWheel wheel = new TimingWheel(1000, 8, 60_000, START);
+        wheel.schedule(1L, START + 50_000);
+        wheel.schedule(2L, START + 5_000);
+
+        assertEquals(List.of(2L), wheel.advance(START + 49_000));
+        assertEquals(List.of(1L), wheel.advance(START + 50_000));
+    }
+
+    @Test
+    void testSchedule_rescheduleAndCancelWinOverStaleBuckets() {
+        TimingWheel wheel = new TimingWheel(1000, 8, 60_000, START);
+        wheel.schedule(1L, START + 3000);
+        wheel.schedule(1L, START + 20_000);
+        wheel.schedule(2L, START + 4000);
+        wheel.cancel(2L);
+
+        assertTrue(wheel.advance(START + 19_000).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(START + 20_000));
+    }
+
+    @Test
+    void testSchedule_rejectsDeadlinesBeyondTheHorizonAndFiresOverdueOnesNext() {
+        TimingWheel wheel = new TimingWheel(1000, 8, 60_000, START);
+
+        assertFalse(wheel.schedule(1L, START + 3_600_000));
+        assertTrue(wheel.schedule(2L, START - 5000));
+        assertEquals(List.of(2L), wheel.advance(START));
+    }
+
+    @Test
+    void testAdvance_neverFiresEarlyOrLate() {
+        TimingWheel wheel = new TimingWheel(100, 4, 6000, START);
+        Random random = new Random(42);
+        long[] deadlines = new long[500];
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = START + random.nextInt(6000);
+            assertTrue(wheel.schedule(i, deadlines[i]));
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now <= START + 6100; now += 37) {
+            for (Long id : wheel.advance(now)) {
+                long deadline = deadlines[id.intValue()];
+                assertTrue(now >= deadline, "fired early");
+                assertTrue(now - deadline < 100 + 37, "fired late");
+                fired.add(id);
+            }
+        }
+        assertEquals(deadlines.length, fired.size());
+    }
+}
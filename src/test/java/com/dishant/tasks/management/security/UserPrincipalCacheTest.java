@@ -0,0 +1,60 @@
+package com.dishant.tasks.management.security;
+
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserPrincipalCacheTest {
+
+    private UserPrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new UserPrincipalCache(Duration.ofSeconds(30), 10);
+    }
+
+    @Test
+    void testGet_mutatingReturnedUserDoesNotChangeCachedEntry() {
+        User user = User.builder().id(1L).username("john").email("john@example.com").name("John").role(Role.USER).build();
+        principalCache.put("john", new CustomUserDetails(user));
+        user.setName("Changed before caching finished");
+
+        User first = principalCache.get("john").orElseThrow().getUser();
+        first.setName("Uncommitted edit");
+        first.setEmail("other@example.com");
+
+        User second = principalCache.get("john").orElseThrow().getUser();
+        assertNotSame(first, second);
+        assertEquals("John", second.getName());
+        assertEquals("john@example.com", second.getEmail());
+    }
+
+    @Test
+    void testEvict_removesEntriesForSameUserId() {
+        User user = User.builder().id(1L).username("john").email("john@example.com").role(Role.USER).build();
+        principalCache.put("john", new CustomUserDetails(user));
+        principalCache.put("john@example.com", new CustomUserDetails(user));
+
+        principalCache.evict(user);
+
+        assertTrue(principalCache.get("john").isEmpty());
+        assertTrue(principalCache.get("john@example.com").isEmpty());
+    }
+
+    @Test
+    void testPut_overCapacityEvictsSomeEntriesInsteadOfAll() {
+        for (long id = 0; id <= 10; id++) {
+            User user = User.builder().id(id).username("user" + id).role(Role.USER).build();
+            principalCache.put(user.getUsername(), new CustomUserDetails(user));
+        }
+
+        long cached = LongStream.range(0, 10).filter(id -> principalCache.get("user" + id).isPresent()).count();
+        assertTrue(cached >= 9, "only " + cached + " of the first 10 principals are still cached");
+    }
+}
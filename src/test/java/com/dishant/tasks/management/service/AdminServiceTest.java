@@ -5,11 +5,13 @@ import com.dishant.tasks.management.exception.ResourceNotFoundException;
 import com.dishant.tasks.management.model.Role;
 import com.dishant.tasks.management.model.TaskStatus;
 import com.dishant.tasks.management.model.User;
-import com.dishant.tasks.management.repository.TaskRepository;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.TokenRevocationService;
+import com.dishant.tasks.management.security.UserPrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -20,14 +22,18 @@ import static org.mockito.Mockito.*;
 class AdminServiceTest {
 
     private UserRepository userRepository;
-    private TaskRepository taskRepository;
+    private TaskCountService taskCountService;
+    private UserPrincipalCache principalCache;
+    private TokenRevocationService tokenRevocationService;
     private AdminService adminService;
 
     @BeforeEach
     void setUp() {
         userRepository = mock(UserRepository.class);
-        taskRepository = mock(TaskRepository.class);
-        adminService = new AdminService(userRepository, taskRepository);
+        taskCountService = mock(TaskCountService.class);
+        principalCache = mock(UserPrincipalCache.class);
+        tokenRevocationService = mock(TokenRevocationService.class);
+        adminService = new AdminService(userRepository, principalCache, tokenRevocationService, taskCountService);
     }
 
     @Test
@@ -72,6 +78,8 @@ class AdminServiceTest {
 
         assertEquals(Role.ADMIN, user.getRole());
         verify(userRepository).save(user);
+        verify(principalCache).evict(user);
+        verify(tokenRevocationService).revoke(user.getId());
     }
 
     @Test
@@ -95,6 +103,8 @@ class AdminServiceTest {
         adminService.deleteUser(userId);
 
         verify(userRepository).delete(user);
+        verify(principalCache).evict(user);
+        verify(tokenRevocationService).revoke(user.getId());
     }
 
     @Test
@@ -110,10 +120,11 @@ class AdminServiceTest {
     @Test
     void getDashboardStats_success() {
         when(userRepository.count()).thenReturn(100L);
-        when(taskRepository.count()).thenReturn(200L);
-        when(taskRepository.countByStatus(TaskStatus.COMPLETED)).thenReturn(80L);
-        when(taskRepository.countByStatus(TaskStatus.PENDING)).thenReturn(70L);
-        when(taskRepository.countByStatus(TaskStatus.IN_PROGRESS)).thenReturn(50L);
+        Map<TaskStatus, Long> taskCounts = new EnumMap<>(TaskStatus.class);
+        taskCounts.put(TaskStatus.COMPLETED, 80L);
+        taskCounts.put(TaskStatus.PENDING, 70L);
+        taskCounts.put(TaskStatus.IN_PROGRESS, 50L);
+        when(taskCountService.getCounts()).thenReturn(taskCounts);
 
         Map<String, Object> stats = adminService.getDashboardStats();
 
@@ -1,19 +1,29 @@
 package com.dishant.tasks.management.service;
 
+import com.dishant.tasks.management.model.EmailOutbox;
+import com.dishant.tasks.management.model.EmailStatus;
 import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.EmailOutboxRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class EmailServiceTest {
 
     @Mock
-    private JavaMailSender javaMailSender;
+    private EmailOutboxRepository emailOutboxRepository;
 
     @InjectMocks
     private EmailService emailService;
@@ -21,30 +31,34 @@ class EmailServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(emailService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailService, "initialBackoff", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(emailService, "maxBackoff", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(emailService, "lease", Duration.ofMinutes(5));
     }
 
     @Test
-    void testSendEmail_shouldSendSimpleMailMessage() {
+    void testSendEmail_shouldQueuePendingMessage() {
         String to = "test@example.com";
         String subject = "Test Subject";
         String body = "This is the test body";
 
         emailService.sendEmail(to, subject, body);
 
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-        verify(javaMailSender, times(1)).send(messageCaptor.capture());
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository, times(1)).save(captor.capture());
 
-        SimpleMailMessage sentMessage = messageCaptor.getValue();
-        assert sentMessage.getTo() != null;
-        assert sentMessage.getTo()[0].equals(to);
-        assertNotNull(sentMessage.getSubject());
-        assert sentMessage.getSubject().equals(subject);
-        assertNotNull(sentMessage.getText());
-        assert sentMessage.getText().equals(body);
+        EmailOutbox queued = captor.getValue();
+        assertEquals(to, queued.getRecipient());
+        assertEquals(subject, queued.getSubject());
+        assertEquals(body, queued.getBody());
+        assertEquals(EmailStatus.PENDING, queued.getStatus());
+        assertEquals(0, queued.getAttempts());
+        assertNotNull(queued.getNextAttemptAt());
     }
 
     @Test
-    void testSendVerificationEmail_shouldLogAndNotSendEmailDirectly() {
+    void testSendVerificationEmail_shouldQueueVerificationLink() {
         User user = new User();
         user.setName("John");
         user.setEmail("john@example.com");
@@ -52,6 +66,67 @@ class EmailServiceTest {
 
         emailService.sendVerificationEmail(user, "/link");
 
-        verify(javaMailSender, never()).send(any(SimpleMailMessage.class));
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertEquals("john@example.com", captor.getValue().getRecipient());
+        assertTrue(captor.getValue().getBody().contains("/v1/api/auth/verify?token=abc123"));
+    }
+
+    @Test
+    void testSendPasswordResetEmail_shouldQueueResetLink() {
+        User user = new User();
+        user.setName("John");
+        user.setEmail("john@example.com");
+
+        emailService.sendPasswordResetEmail(user, "http://localhost:5173/reset-password/xyz");
+
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        assertTrue(captor.getValue().getBody().contains("/reset-password/xyz"));
+    }
+
+    @Test
+    void testClaimDue_shouldPushNextAttemptPastLease() {
+        EmailOutbox email = EmailOutbox.builder().id(1L).status(EmailStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now().minusMinutes(1)).build();
+        when(emailOutboxRepository.lockDue(eq(EmailStatus.PENDING), any(), eq(Limit.of(10)))).thenReturn(List.of(email));
+
+        List<EmailOutbox> claimed = emailService.claimDue(10);
+
+        assertEquals(List.of(email), claimed);
+        assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now().plusMinutes(4)));
+    }
+
+    @Test
+    void testMarkSent_shouldSkipEmptyBatch() {
+        emailService.markSent(List.of());
+        verifyNoInteractions(emailOutboxRepository);
+
+        emailService.markSent(List.of(1L, 2L));
+        verify(emailOutboxRepository).markSent(eq(List.of(1L, 2L)), eq(EmailStatus.SENT), any());
+    }
+
+    @Test
+    void testMarkFailed_shouldBackOffThenGiveUp() {
+        EmailOutbox retry = EmailOutbox.builder().id(1L).status(EmailStatus.PENDING).attempts(0).build();
+        EmailOutbox exhausted = EmailOutbox.builder().id(2L).status(EmailStatus.PENDING).attempts(2).build();
+        when(emailOutboxRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(retry, exhausted));
+
+        emailService.markFailed(Map.of(1L, "450 mailbox busy", 2L, "550 no such user"));
+
+        assertEquals(EmailStatus.PENDING, retry.getStatus());
+        assertEquals(1, retry.getAttempts());
+        assertEquals("450 mailbox busy", retry.getLastError());
+        assertTrue(retry.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+
+        assertEquals(EmailStatus.FAILED, exhausted.getStatus());
+        assertEquals(3, exhausted.getAttempts());
+    }
+
+    @Test
+    void testBackoff_shouldDoubleUpToMax() {
+        assertEquals(Duration.ofSeconds(30), emailService.backoff(1));
+        assertEquals(Duration.ofSeconds(60), emailService.backoff(2));
+        assertEquals(Duration.ofMinutes(1), emailService.backoff(5));
     }
 }
@@ -0,0 +1,90 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskCursor;
+import com.dishant.tasks.management.dto.TaskPageResponse;
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.model.TaskArchive;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskArchiveRepository;
+import com.dishant.tasks.management.repository.SchedulerLogJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskArchiveServiceTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private SchedulerLogJdbcRepository schedulerLogJdbcRepository;
+
+    @Mock
+    private TaskArchiveRepository taskArchiveRepository;
+
+    @InjectMocks
+    private TaskArchiveService taskArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskArchiveService, "completedTaskRetention", Duration.ofDays(90));
+        ReflectionTestUtils.setField(taskArchiveService, "schedulerLogRetention", Duration.ofDays(30));
+        ReflectionTestUtils.setField(taskArchiveService, "batchSize", 2);
+    }
+
+    @Test
+    void testApplyRetention_repeatsBatchesUntilOneComesBackShort() {
+        when(taskService.archiveCompletedTasks(any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+        when(schedulerLogJdbcRepository.deleteStartedBefore(any(Timestamp.class), eq(2))).thenReturn(2, 0);
+
+        taskArchiveService.applyRetention();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskService, times(3)).archiveCompletedTasks(cutoff.capture(), eq(2));
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusDays(89)));
+        verify(schedulerLogJdbcRepository, times(2)).deleteStartedBefore(any(Timestamp.class), eq(2));
+    }
+
+    @Test
+    void testGetArchivedTaskPage_returnsCursorWhenMoreRowsExist() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        when(taskArchiveRepository.findPage(7L, null, null, Limit.of(3))).thenReturn(List.of(
+                archived(1L, createdAt), archived(2L, createdAt), archived(3L, createdAt.plusHours(1))));
+
+        TaskPageResponse page = taskArchiveService.getArchivedTaskPage(7L, null, 2);
+
+        assertTrue(page.isHasMore());
+        assertEquals(List.of(1L, 2L), page.getItems().stream().map(TaskResponse::getId).toList());
+        assertEquals("john", page.getItems().getFirst().getUsername());
+        assertEquals(new TaskCursor(createdAt, 2L), TaskCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void testGetArchivedTaskPage_continuesFromCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+        when(taskArchiveRepository.findPage(null, createdAt, 2L, Limit.of(51))).thenReturn(List.of(archived(3L, createdAt)));
+
+        TaskPageResponse page = taskArchiveService.getArchivedTaskPage(null, new TaskCursor(createdAt, 2L).encode(), null);
+
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        assertEquals(1, page.getItems().size());
+    }
+
+    private static TaskArchive archived(Long id, LocalDateTime createdAt) {
+        return TaskArchive.builder().id(id).title("Task " + id).status(TaskStatus.COMPLETED)
+                .createdAt(createdAt).userId(7L).username("john").build();
+    }
+}
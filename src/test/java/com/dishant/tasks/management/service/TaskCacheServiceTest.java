@@ -0,0 +1,151 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TaskCacheServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOps;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry meterRegistry;
+    private TaskCacheService taskCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        meterRegistry = new SimpleMeterRegistry();
+        taskCache = new TaskCacheService(redisTemplate, objectMapper, meterRegistry, 100, Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(taskCache, "redisTtl", Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_missLoadsOnceAndFillsBothTiers() {
+        TaskCacheService.CachedTask first = taskCache.get(1L, this::load);
+        TaskCacheService.CachedTask second = taskCache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        verify(valueOps).set(eq("task:1"), anyString(), eq(Duration.ofMinutes(10)));
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "tasks.redis").tag("result", "miss").counter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "tasks.local").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testGet_redisHitSkipsDatabase() throws Exception {
+        TaskCacheService.CachedTask stored = cachedTask();
+        when(valueOps.get("task:1")).thenReturn(objectMapper.writeValueAsString(stored));
+
+        TaskCacheService.CachedTask result = taskCache.get(1L, this::load);
+
+        assertEquals(0, loads.get());
+        assertEquals(stored, result);
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "tasks.redis").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void testGet_redisDownFallsBackToLoader() {
+        when(valueOps.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(valueOps).set(anyString(), anyString(), any(Duration.class));
+
+        assertEquals(cachedTask(), taskCache.get(1L, this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testOnTaskChanged_evictsBothTiersExceptForCreates() {
+        taskCache.get(1L, this::load);
+
+        taskCache.onTaskChanged(TaskChangedEvent.of(TaskChangeType.CREATED, snapshot(1L)));
+        taskCache.get(1L, this::load);
+        assertEquals(1, loads.get());
+
+        taskCache.onTaskChanged(TaskChangedEvent.of(TaskChangeType.CLOSED, snapshot(1L)));
+        taskCache.get(1L, this::load);
+        assertEquals(2, loads.get());
+        verify(redisTemplate).delete(List.of("task:1"));
+    }
+
+    @Test
+    void testGet_loadRacingWithInvalidationIsNotCached() {
+        taskCache.get(1L, () -> {
+            // A change commits while the task is being read from the database
+            taskCache.evict(List.of(1L));
+            return load();
+        });
+        taskCache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+        verify(valueOps).set(eq("task:1"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void testGet_invalidationOfAnotherTaskDoesNotSkipCaching() {
+        taskCache.get(1L, () -> {
+            // A different task changes while this one is being read from the database
+            taskCache.evict(List.of(2L));
+            return load();
+        });
+        taskCache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+        verify(valueOps).set(eq("task:1"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void testEvictReceived_deletesValueWrittenBeforeChangeMessageArrived() {
+        // Another node committed a change while this node was loading, so the generation did not
+        // move here and the stale value reaches Redis; the change message must remove it again
+        taskCache.get(1L, this::load);
+        taskCache.evictReceived(List.of(1L));
+        verify(redisTemplate, timeout(2000)).delete(List.of("task:1"));
+        taskCache.get(1L, this::load);
+
+        InOrder inOrder = inOrder(valueOps, redisTemplate);
+        inOrder.verify(valueOps).set(eq("task:1"), anyString(), any(Duration.class));
+        inOrder.verify(redisTemplate).delete(List.of("task:1"));
+        inOrder.verify(valueOps).set(eq("task:1"), anyString(), any(Duration.class));
+        assertEquals(2, loads.get());
+    }
+
+    private TaskCacheService.CachedTask load() {
+        loads.incrementAndGet();
+        return cachedTask();
+    }
+
+    private static TaskCacheService.CachedTask cachedTask() {
+        return new TaskCacheService.CachedTask(7L, TaskResponse.builder().id(1L).title("Cached").username("john").build());
+    }
+
+    private static TaskSnapshot snapshot(Long id) {
+        return new TaskSnapshot(id, 7L, null, TaskStatus.COMPLETED, TaskStatus.PENDING, null);
+    }
+}
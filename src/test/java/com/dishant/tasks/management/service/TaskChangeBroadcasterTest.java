@@ -0,0 +1,91 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.scheduler.DueTaskTimer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TaskChangeBroadcasterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private TaskStreamService taskStreamService;
+
+    @Mock
+    private TaskCacheService taskCacheService;
+
+    @Mock
+    private TaskSearchService taskSearchService;
+
+    @Mock
+    private DueTaskTimer dueTaskTimer;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private TaskChangeBroadcaster broadcaster;
+
+    private TaskChangedEvent event;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        event = TaskChangedEvent.of(TaskChangeType.CLOSED,
+                new TaskSnapshot(5L, 1L, 2L, TaskStatus.COMPLETED, TaskStatus.PENDING, LocalDateTime.of(2026, 1, 1, 9, 0)));
+    }
+
+    @Test
+    void testOnTaskChanged_shouldPublishAndRoundTrip() {
+        broadcaster.onTaskChanged(event);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TaskChangeBroadcaster.CHANNEL), payload.capture());
+        verifyNoInteractions(taskStreamService);
+
+        broadcaster.onMessage(new DefaultMessage(TaskChangeBroadcaster.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                payload.getValue().getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(taskStreamService).dispatch(event);
+        verify(taskCacheService).evictReceived(List.of(5L));
+        verify(taskSearchService).onTaskChanged(event);
+        verify(dueTaskTimer).onTaskChanged(event);
+    }
+
+    @Test
+    void testOnTaskChanged_shouldStreamLocallyWhenRedisIsDown() {
+        when(redisTemplate.convertAndSend(anyString(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        broadcaster.onTaskChanged(event);
+
+        verify(taskStreamService).dispatch(event);
+        verify(taskSearchService).onTaskChanged(event);
+        verify(dueTaskTimer).onTaskChanged(event);
+    }
+
+    @Test
+    void testOnMessage_shouldIgnoreMalformedPayload() {
+        broadcaster.onMessage(new DefaultMessage(new byte[0], "not json".getBytes(StandardCharsets.UTF_8)), null);
+
+        verifyNoInteractions(taskStreamService);
+    }
+}
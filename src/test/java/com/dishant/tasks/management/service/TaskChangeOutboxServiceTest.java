@@ -0,0 +1,61 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskChangeOutboxRepository;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskChangeOutboxServiceTest {
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private TaskChangeOutboxRepository taskChangeOutboxRepository;
+
+    @InjectMocks
+    private TaskChangeOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testOnTaskChanged_shouldRecordAllTasksOfEvent() {
+        List<TaskSnapshot> tasks = List.of(
+                new TaskSnapshot(1L, 10L, null, TaskStatus.COMPLETED, TaskStatus.PENDING, null),
+                new TaskSnapshot(2L, 10L, 11L, TaskStatus.COMPLETED, TaskStatus.IN_PROGRESS, null));
+
+        outboxService.onTaskChanged(new TaskChangedEvent(TaskChangeType.CLOSED, tasks));
+
+        verify(taskJdbcRepository).insertChanges(eq(TaskChangeType.CLOSED), eq(tasks), any());
+    }
+
+    @Test
+    void testOnTaskChanged_shouldSkipEmptyEvent() {
+        outboxService.onTaskChanged(new TaskChangedEvent(TaskChangeType.CLOSED, List.of()));
+
+        verifyNoInteractions(taskJdbcRepository);
+    }
+
+    @Test
+    void testNextBatchAndMarkPublished() {
+        outboxService.nextBatch(100);
+        outboxService.markPublished(List.of(1L, 2L));
+
+        verify(taskChangeOutboxRepository).findAllByOrderByIdAsc(Limit.of(100));
+        verify(taskChangeOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+}
@@ -0,0 +1,113 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskCountServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOps;
+
+    @InjectMocks
+    private TaskCountService taskCountService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOps);
+        when(taskRepository.countGroupByStatus()).thenReturn(List.of(
+                statusCount(TaskStatus.PENDING, 7), statusCount(TaskStatus.COMPLETED, 3)));
+    }
+
+    @Test
+    void testGetCounts_readsRedisHashWithoutDatabase() {
+        when(hashOps.entries(TaskCountService.COUNTS_KEY)).thenReturn(Map.of("PENDING", "5", "COMPLETED", "2"));
+
+        Map<TaskStatus, Long> counts = taskCountService.getCounts();
+
+        assertEquals(5L, counts.get(TaskStatus.PENDING));
+        assertEquals(0L, counts.get(TaskStatus.IN_PROGRESS));
+        assertEquals(2L, counts.get(TaskStatus.COMPLETED));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetCounts_rebuildsMissingHashFromGroupBy() {
+        when(hashOps.entries(TaskCountService.COUNTS_KEY)).thenReturn(Map.of());
+
+        Map<TaskStatus, Long> counts = taskCountService.getCounts();
+
+        assertEquals(7L, counts.get(TaskStatus.PENDING));
+        assertEquals(0L, counts.get(TaskStatus.IN_PROGRESS));
+        verify(hashOps).putAll(TaskCountService.COUNTS_KEY, Map.of("PENDING", "7", "IN_PROGRESS", "0", "COMPLETED", "3"));
+    }
+
+    @Test
+    void testGetCounts_fallsBackToDatabaseWhenRedisIsDown() {
+        when(hashOps.entries(TaskCountService.COUNTS_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertEquals(3L, taskCountService.getCounts().get(TaskStatus.COMPLETED));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOnTaskChanged_appliesNetDeltas() {
+        taskCountService.onTaskChanged(new TaskChangedEvent(TaskChangeType.CLOSED, List.of(
+                snapshot(TaskStatus.COMPLETED, TaskStatus.PENDING),
+                snapshot(TaskStatus.COMPLETED, TaskStatus.IN_PROGRESS))));
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(TaskCountService.COUNTS_KEY)), args.capture());
+        assertArrayEquals(new Object[]{"PENDING", "-1", "IN_PROGRESS", "-1", "COMPLETED", "2"}, args.getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOnTaskChanged_ignoresUpdatesWithoutStatusChange() {
+        taskCountService.onTaskChanged(TaskChangedEvent.of(TaskChangeType.UPDATED,
+                snapshot(TaskStatus.PENDING, TaskStatus.PENDING)));
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private static TaskSnapshot snapshot(TaskStatus status, TaskStatus previousStatus) {
+        return new TaskSnapshot(1L, 1L, 1L, status, previousStatus, null);
+    }
+
+    private static TaskRepository.StatusCount statusCount(TaskStatus status, long count) {
+        return new TaskRepository.StatusCount() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,123 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.exception.BadRequestException;
+import com.dishant.tasks.management.model.TaskPriority;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private TaskExportService taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskExportService = new TaskExportService(taskJdbcRepository, objectMapper);
+        doAnswer(invocation -> {
+            Consumer<TaskResponse> action = invocation.getArgument(0);
+            tasks().forEach(action);
+            return null;
+        }).when(taskJdbcRepository).forEachTask(any());
+    }
+
+    @Test
+    void testExport_ndjsonWritesOneTaskPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, taskExportService.export(TaskExportService.Format.NDJSON, false, out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        TaskResponse first = objectMapper.readValue(lines[0], TaskResponse.class);
+        assertEquals(tasks().getFirst(), first);
+        assertEquals("Second", objectMapper.readValue(lines[1], TaskResponse.class).getTitle());
+    }
+
+    @Test
+    void testExport_csvQuotesFieldsThatNeedIt() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskExportService.export(TaskExportService.Format.CSV, false, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,title,description,"));
+        assertEquals("1,First,\"Has, comma and \"\"quotes\"\"\",PENDING,HIGH,Unflagged,2025-01-02T09:00,"
+                + "2025-01-01T09:00,2025-01-01T10:00,3,john,", lines[1]);
+        assertTrue(lines[2].startsWith("2,Second,,COMPLETED,"));
+    }
+
+    @Test
+    void testExport_gzipIsReadableBack() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        taskExportService.export(TaskExportService.Format.NDJSON, false, plain);
+        taskExportService.export(TaskExportService.Format.NDJSON, true, compressed);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(plain.toByteArray(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testExport_clientDisconnectSurfacesAsIOException() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> taskExportService.export(TaskExportService.Format.CSV, false, broken));
+    }
+
+    @Test
+    void testFormatFrom_rejectsUnknownFormats() {
+        assertEquals(TaskExportService.Format.CSV, TaskExportService.Format.from("csv"));
+        assertThrows(BadRequestException.class, () -> TaskExportService.Format.from("xml"));
+    }
+
+    private static List<TaskResponse> tasks() {
+        return List.of(
+                TaskResponse.builder().id(1L).title("First").description("Has, comma and \"quotes\"")
+                        .status(TaskStatus.PENDING).priority(TaskPriority.HIGH).flag("Unflagged")
+                        .dueDate(LocalDateTime.of(2025, 1, 2, 9, 0))
+                        .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                        .updatedAt(LocalDateTime.of(2025, 1, 1, 10, 0))
+                        .version(3L).username("john").build(),
+                TaskResponse.builder().id(2L).title("Second").status(TaskStatus.COMPLETED)
+                        .priority(TaskPriority.LOW).version(0L).username("john").assignedToUsername("jane").build());
+    }
+}
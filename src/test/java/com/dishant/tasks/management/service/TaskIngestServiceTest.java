@@ -0,0 +1,144 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.model.ProcessedOffset;
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.ProcessedOffsetRepository;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.dishant.tasks.management.repository.UserRepository;
+import com.example.kafka.avro.TaskEventSchema;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskIngestServiceTest {
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProcessedOffsetRepository processedOffsetRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private TaskIngestService taskIngestService;
+
+    @Captor
+    private ArgumentCaptor<List<Task>> tasksCaptor;
+
+    private User john;
+    private User jane;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        john = User.builder().id(1L).username("john").role(Role.USER).build();
+        jane = User.builder().id(2L).username("jane").role(Role.USER).build();
+        when(taskJdbcRepository.insertAll(any())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+        when(processedOffsetRepository.lockByTopicAndPartition(anyString(), anyInt())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void testIngest_resolvesUsersOnceAndInsertsValidTasksInOneBatch() {
+        when(userRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(john, jane));
+
+        Map<TopicPartition, Long> offsets = taskIngestService.ingest(List.of(
+                eventRecord(0, 0, event("A", "2030-01-01T10:00:00", 1L, "john")),
+                eventRecord(0, 1, event("B", "2030-01-02T10:00:00", 2L, "jane")),
+                eventRecord(1, 7, event("C", "2030-01-03T10:00:00", 1L, "john"))));
+
+        verify(userRepository, times(1)).findAllById(Set.of(1L, 2L));
+        verify(taskJdbcRepository, times(1)).insertAll(tasksCaptor.capture());
+        List<Task> tasks = tasksCaptor.getValue();
+        assertEquals(List.of("A", "B", "C"), tasks.stream().map(Task::getTitle).toList());
+        assertTrue(tasks.stream().allMatch(t -> t.getStatus() == TaskStatus.PENDING && t.getCreatedAt() != null));
+        assertSame(jane, tasks.get(1).getUser());
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(TaskChangeType.CREATED, eventCaptor.getValue().type());
+        assertEquals(3, eventCaptor.getValue().tasks().size());
+        assertEquals(Map.of(new TopicPartition("task-topic", 0), 1L, new TopicPartition("task-topic", 1), 7L), offsets);
+        verify(processedOffsetRepository, times(2)).save(any(ProcessedOffset.class));
+    }
+
+    @Test
+    void testIngest_skipsInvalidEventsButAdvancesOffset() {
+        when(userRepository.findAllById(any())).thenReturn(List.of(john));
+
+        Map<TopicPartition, Long> offsets = taskIngestService.ingest(List.of(
+                eventRecord(0, 0, event("bad date", "not-a-date", 1L, "john")),
+                eventRecord(0, 1, event("unknown user", "2030-01-01T10:00:00", 9L, "ghost")),
+                eventRecord(0, 2, event("wrong name", "2030-01-01T10:00:00", 1L, "jane")),
+                eventRecord(0, 3, event("ok", "2030-01-01T10:00:00", 1L, "john"))));
+
+        verify(taskJdbcRepository).insertAll(tasksCaptor.capture());
+        assertEquals(List.of("ok"), tasksCaptor.getValue().stream().map(Task::getTitle).toList());
+        assertEquals(3L, offsets.get(new TopicPartition("task-topic", 0)));
+    }
+
+    @Test
+    void testIngest_dropsRecordsAtOrBelowStoredOffset() {
+        ProcessedOffset stored = new ProcessedOffset("task-topic", 0, 5L, null);
+        when(processedOffsetRepository.lockByTopicAndPartition("task-topic", 0)).thenReturn(Optional.of(stored));
+        when(userRepository.findAllById(any())).thenReturn(List.of(john));
+
+        taskIngestService.ingest(List.of(
+                eventRecord(0, 4, event("replayed", "2030-01-01T10:00:00", 1L, "john")),
+                eventRecord(0, 5, event("replayed too", "2030-01-01T10:00:00", 1L, "john")),
+                eventRecord(0, 6, event("new", "2030-01-01T10:00:00", 1L, "john"))));
+
+        verify(taskJdbcRepository).insertAll(tasksCaptor.capture());
+        assertEquals(List.of("new"), tasksCaptor.getValue().stream().map(Task::getTitle).toList());
+        assertEquals(6L, stored.getCommittedOffset());
+        verify(processedOffsetRepository).save(stored);
+    }
+
+    @Test
+    void testIngest_fullyReplayedBatchInsertsNothing() {
+        when(processedOffsetRepository.lockByTopicAndPartition("task-topic", 0))
+                .thenReturn(Optional.of(new ProcessedOffset("task-topic", 0, 10L, null)));
+
+        Map<TopicPartition, Long> offsets = taskIngestService.ingest(List.of(
+                eventRecord(0, 9, event("replayed", "2030-01-01T10:00:00", 1L, "john"))));
+
+        verifyNoInteractions(taskJdbcRepository, userRepository, eventPublisher);
+        verify(processedOffsetRepository, never()).save(any());
+        assertEquals(10L, offsets.get(new TopicPartition("task-topic", 0)));
+    }
+
+    private static ConsumerRecord<String, TaskEventSchema> eventRecord(int partition, long offset, TaskEventSchema event) {
+        return new ConsumerRecord<>("task-topic", partition, offset, null, event);
+    }
+
+    private static TaskEventSchema event(String title, String dueDate, Long userId, String userName) {
+        return TaskEventSchema.newBuilder()
+                .setTitle(title)
+                .setDescription(title + " description")
+                .setDueDate(dueDate)
+                .setUserId(userId)
+                .setUserName(userName)
+                .setUserRole("USER")
+                .build();
+    }
+}
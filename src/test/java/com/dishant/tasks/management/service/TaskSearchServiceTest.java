@@ -0,0 +1,240 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.dto.TaskResponse;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.exception.BadRequestException;
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.Task;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.model.User;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
+import com.dishant.tasks.management.repository.TaskRepository;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.dishant.tasks.management.utils.TaskHelperUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private TaskHelperUtil taskHelper;
+
+    @TempDir
+    private Path indexDir;
+
+    private final User owner = User.builder().id(1L).username("john").role(Role.USER).build();
+    private final User other = User.builder().id(2L).username("jane").role(Role.USER).build();
+    private final Map<Long, Task> database = new HashMap<>();
+    private TaskSearchService searchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        searchService = new TaskSearchService(taskRepository, taskJdbcRepository, taskHelper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(searchService, "indexPath", indexDir.toString());
+        ReflectionTestUtils.setField(searchService, "batchSize", 2);
+        ReflectionTestUtils.setField(searchService, "catchUpMargin", Duration.ofMinutes(5));
+        searchService.open();
+
+        when(taskRepository.findAllById(anyCollection())).thenAnswer(invocation -> find(invocation.getArgument(0)));
+        when(taskRepository.findWithUsersByIdIn(anyCollection())).thenAnswer(invocation -> find(invocation.getArgument(0)));
+        when(taskHelper.mapToResponse(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            return TaskResponse.builder().id(task.getId()).title(task.getTitle()).build();
+        });
+        when(taskHelper.getCurrentPrincipal()).thenReturn(AuthenticatedUser.from(owner));
+
+        save(task(1L, owner, "Quarterly report", "Collect the revenue numbers"));
+        save(task(2L, owner, "Book flights", "Trip to the quarterly offsite"));
+        save(task(3L, other, "Quarterly budget", "Not visible to john"));
+        save(task(4L, owner, "Groceries", "Milk and eggs"));
+        searchService.onTaskChanged(created(1L, 2L, 3L, 4L));
+        searchService.indexPending();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        searchService.close();
+    }
+
+    @Test
+    void testSearch_ranksTitleMatchesFirstAndFiltersByOwner() {
+        List<TaskResponse> results = searchService.search("quarterly", 10);
+
+        assertEquals(List.of(1L, 2L), ids(results));
+    }
+
+    @Test
+    void testSearch_adminSeesEveryTask() {
+        when(taskHelper.getCurrentPrincipal()).thenReturn(new AuthenticatedUser(9L, "admin", Role.ADMIN));
+
+        assertEquals(3, searchService.search("QUARTERLY", 10).size());
+    }
+
+    @Test
+    void testSearch_requiresEveryWord() {
+        assertEquals(List.of(1L), ids(searchService.search("quarterly revenue", 10)));
+        assertTrue(searchService.search("quarterly milk", 10).isEmpty());
+        assertTrue(searchService.search("?!", 10).isEmpty());
+        assertThrows(BadRequestException.class, () -> searchService.search(" ", 10));
+    }
+
+    @Test
+    void testIndexPending_appliesUpdatesAndDeletes() {
+        save(task(4L, owner, "Quarterly groceries", "Milk and eggs"));
+        database.remove(1L);
+        searchService.onTaskChanged(new TaskChangedEvent(TaskChangeType.UPDATED, List.of(snapshot(4L))));
+        searchService.onTaskChanged(new TaskChangedEvent(TaskChangeType.DELETED, List.of(snapshot(1L))));
+        searchService.indexPending();
+
+        when(taskHelper.getCurrentPrincipal()).thenReturn(new AuthenticatedUser(9L, "admin", Role.ADMIN));
+        List<TaskResponse> results = searchService.search("quarterly", 10);
+        assertFalse(ids(results).contains(1L));
+        assertTrue(ids(results).contains(4L));
+    }
+
+    @Test
+    void testSearch_dropsHitsDeletedSinceIndexing() {
+        database.remove(1L);
+
+        assertEquals(List.of(2L), ids(searchService.search("quarterly", 10)));
+    }
+
+    @Test
+    void testRebuild_reindexesFromDatabaseAndDropsStaleDocuments() throws Exception {
+        database.remove(2L);
+        save(task(5L, owner, "Quarterly taxes", null));
+        doAnswer(invocation -> {
+            Consumer<TaskJdbcRepository.SearchDocument> action = invocation.getArgument(0);
+            database.values().forEach(task -> action.accept(new TaskJdbcRepository.SearchDocument(
+                    task.getId(), task.getUser().getId(), task.getTitle(), task.getDescription())));
+            return null;
+        }).when(taskJdbcRepository).forEachSearchDocument(any());
+        Thread.sleep(2);
+
+        searchService.rebuild();
+
+        when(taskHelper.getCurrentPrincipal()).thenReturn(new AuthenticatedUser(9L, "admin", Role.ADMIN));
+        assertEquals(List.of(1L, 3L, 5L), ids(searchService.search("quarterly", 10)).stream().sorted().toList());
+    }
+
+    @Test
+    void testIndexPending_requeuesBatchWhenIndexingFails() {
+        save(task(4L, owner, "Quarterly groceries", "Milk and eggs"));
+        when(taskRepository.findAllById(anyCollection()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenAnswer(invocation -> find(invocation.getArgument(0)));
+        searchService.onTaskChanged(new TaskChangedEvent(TaskChangeType.UPDATED, List.of(snapshot(4L))));
+
+        searchService.indexPending();
+        assertEquals(List.of(1L, 2L), ids(searchService.search("quarterly", 10)));
+
+        searchService.indexPending();
+        assertTrue(ids(searchService.search("quarterly", 10)).contains(4L));
+    }
+
+    @Test
+    void testRebuild_reindexesTasksChangedWhileItRuns() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<TaskJdbcRepository.SearchDocument> action = invocation.getArgument(0);
+            // Task 4 changes after the cursor read it but before the cursor reaches it
+            Task before = database.get(4L);
+            save(task(4L, owner, "Quarterly groceries", "Milk and eggs"));
+            searchService.onTaskChanged(new TaskChangedEvent(TaskChangeType.UPDATED, List.of(snapshot(4L))));
+            searchService.indexPending();
+            action.accept(new TaskJdbcRepository.SearchDocument(4L, owner.getId(), before.getTitle(), before.getDescription()));
+            return null;
+        }).when(taskJdbcRepository).forEachSearchDocument(any());
+
+        searchService.rebuild();
+        assertFalse(ids(searchService.search("quarterly", 10)).contains(4L));
+
+        searchService.indexPending();
+        assertTrue(ids(searchService.search("quarterly", 10)).contains(4L));
+    }
+
+    @Test
+    void testCatchUp_reindexesTasksChangedSinceTheLastCommit() throws Exception {
+        long committedAt = System.currentTimeMillis();
+        searchService.commit();
+        searchService.close();
+
+        save(task(4L, owner, "Quarterly groceries", "Milk and eggs"));
+        when(taskRepository.findIdsUpdatedSince(any())).thenReturn(List.of(4L));
+        searchService = new TaskSearchService(taskRepository, taskJdbcRepository, taskHelper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(searchService, "indexPath", indexDir.toString());
+        ReflectionTestUtils.setField(searchService, "batchSize", 2);
+        ReflectionTestUtils.setField(searchService, "catchUpMargin", Duration.ofMinutes(5));
+        searchService.open();
+
+        searchService.catchUp();
+        searchService.indexPending();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskRepository).findIdsUpdatedSince(since.capture());
+        LocalDateTime expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(committedAt), ZoneId.systemDefault()).minusMinutes(5);
+        assertFalse(since.getValue().isAfter(expected));
+        assertTrue(since.getValue().isAfter(expected.minusMinutes(1)));
+        assertTrue(ids(searchService.search("quarterly", 10)).contains(4L));
+        verify(taskJdbcRepository, never()).forEachSearchDocument(any());
+    }
+
+    private List<Task> find(Collection<Long> ids) {
+        List<Task> found = new ArrayList<>();
+        ids.stream().map(database::get).filter(task -> task != null).forEach(found::add);
+        return found;
+    }
+
+    private void save(Task task) {
+        database.put(task.getId(), task);
+    }
+
+    private static List<Long> ids(List<TaskResponse> results) {
+        return results.stream().map(TaskResponse::getId).toList();
+    }
+
+    private static Task task(Long id, User user, String title, String description) {
+        return Task.builder().id(id).user(user).title(title).description(description).status(TaskStatus.PENDING).build();
+    }
+
+    private static TaskChangedEvent created(Long... ids) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, java.util.Arrays.stream(ids).map(TaskSearchServiceTest::snapshot).toList());
+    }
+
+    private static TaskSnapshot snapshot(Long id) {
+        return new TaskSnapshot(id, null, null, TaskStatus.PENDING, null, null);
+    }
+}
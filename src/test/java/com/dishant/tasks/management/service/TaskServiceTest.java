@@ -1,22 +1,40 @@
 package com.dishant.tasks.management.service;
 
+import com.dishant.tasks.management.dto.BulkTaskResponse;
+import com.dishant.tasks.management.dto.BulkTaskResult;
+import com.dishant.tasks.management.dto.TaskCursor;
+import com.dishant.tasks.management.dto.TaskFilter;
+import com.dishant.tasks.management.dto.TaskPageResponse;
 import com.dishant.tasks.management.dto.TaskRequest;
 import com.dishant.tasks.management.dto.TaskResponse;
 import com.dishant.tasks.management.dto.UpdateTaskRequest;
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
 import com.dishant.tasks.management.exception.BadRequestException;
 import com.dishant.tasks.management.exception.ResourceNotFoundException;
+import com.dishant.tasks.management.exception.UnAuthorizedException;
 import com.dishant.tasks.management.model.*;
+import com.dishant.tasks.management.repository.TaskArchiveJdbcRepository;
+import com.dishant.tasks.management.repository.TaskJdbcRepository;
 import com.dishant.tasks.management.repository.TaskRepository;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.AuthenticatedUser;
 import com.dishant.tasks.management.utils.TaskHelperUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import static com.dishant.tasks.management.constants.Constants.UNFLAGGED;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -31,10 +49,27 @@ class TaskServiceTest {
     @Mock
     private TaskHelperUtil taskHelper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskCacheService taskCache;
+
+    @Mock
+    private TaskJdbcRepository taskJdbcRepository;
+
+    @Mock
+    private TaskArchiveJdbcRepository taskArchiveJdbcRepository;
+
+    @Captor
+    private ArgumentCaptor<TaskChangedEvent> eventCaptor;
+
     @InjectMocks
     private TaskService taskService;
 
     private User user;
+    private AuthenticatedUser principal;
+    private AuthenticatedUser adminPrincipal;
     private Task task;
     private TaskRequest taskRequest;
     private UpdateTaskRequest updateTaskRequest;
@@ -43,12 +78,15 @@ class TaskServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 3);
 
         user = User.builder()
                 .id(1L)
                 .username("john")
                 .role(Role.USER)
                 .build();
+        principal = AuthenticatedUser.from(user);
+        adminPrincipal = new AuthenticatedUser(1L, "john", Role.ADMIN);
 
         task = Task.builder()
                 .id(1L)
@@ -97,6 +135,9 @@ class TaskServiceTest {
 
         assertEquals("Mapped Task", result.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(TaskChangeType.CREATED, eventCaptor.getValue().type());
+        assertEquals(1L, eventCaptor.getValue().tasks().getFirst().id());
     }
 
     @Test
@@ -122,9 +163,8 @@ class TaskServiceTest {
 
     @Test
     void testGetAllTasks_User() {
-        when(taskHelper.getCurrentUser()).thenReturn(user);
-        when(taskHelper.isAdmin(user)).thenReturn(false);
-        when(taskRepository.findByUserAndStatusNot(user, TaskStatus.COMPLETED)).thenReturn(List.of(task));
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        when(taskRepository.findByUserIdAndStatusNot(1L, TaskStatus.COMPLETED)).thenReturn(List.of(task));
         when(taskHelper.mapToResponse(any(Task.class))).thenReturn(taskResponse);
 
         List<TaskResponse> result = taskService.getAllTasks();
@@ -135,9 +175,7 @@ class TaskServiceTest {
 
     @Test
     void testGetAllTasks_Admin() {
-        user.setRole(Role.ADMIN);
-        when(taskHelper.getCurrentUser()).thenReturn(user);
-        when(taskHelper.isAdmin(user)).thenReturn(true);
+        when(taskHelper.getCurrentPrincipal()).thenReturn(adminPrincipal);
         when(taskRepository.findByStatusNot(TaskStatus.COMPLETED)).thenReturn(List.of(task));
         when(taskHelper.mapToResponse(any(Task.class))).thenReturn(taskResponse);
 
@@ -147,15 +185,82 @@ class TaskServiceTest {
         assertEquals("Mapped Task", result.getFirst().getTitle());
     }
 
+    @Test
+    void testGetAllTasksETag_isScopedToTheCaller() {
+        TaskRepository.ListVersion version = mock(TaskRepository.ListVersion.class);
+        when(version.getCount()).thenReturn(3L);
+        when(version.getVersionSum()).thenReturn(5L);
+        when(taskRepository.findListVersionByUserId(1L, TaskStatus.COMPLETED)).thenReturn(version);
+        when(taskRepository.findListVersion(TaskStatus.COMPLETED)).thenReturn(version);
+
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        String userETag = taskService.getAllTasksETag();
+        when(taskHelper.getCurrentPrincipal()).thenReturn(adminPrincipal);
+        String adminETag = taskService.getAllTasksETag();
+
+        assertEquals("\"tasks-u1-3-0-5\"", userETag);
+        assertEquals("\"tasks-all-3-0-5\"", adminETag);
+        verify(taskRepository, never()).findByStatusNot(any());
+    }
+
+    @Test
+    void testGetTaskPage_HasMore() {
+        Task newer = Task.builder().id(3L).user(user).createdAt(LocalDateTime.now()).build();
+        Task older = Task.builder().id(2L).user(user).createdAt(LocalDateTime.now().minusHours(1)).build();
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(List.of(newer, older, task));
+        when(taskHelper.mapToResponse(any(Task.class))).thenReturn(taskResponse);
+
+        TaskPageResponse result = taskService.getTaskPage(TaskFilter.builder().limit(2).build());
+
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.isHasMore());
+        TaskCursor cursor = TaskCursor.decode(result.getNextCursor());
+        assertEquals(2L, cursor.id());
+        assertEquals(older.getCreatedAt(), cursor.createdAt());
+    }
+
+    @Test
+    void testGetTaskPage_LastPage() {
+        when(taskHelper.getCurrentPrincipal()).thenReturn(adminPrincipal);
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(List.of(task));
+        when(taskHelper.mapToResponse(any(Task.class))).thenReturn(taskResponse);
+
+        TaskPageResponse result = taskService.getTaskPage(TaskFilter.builder().limit(10).build());
+
+        assertEquals(1, result.getItems().size());
+        assertFalse(result.isHasMore());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testGetTaskPage_InvalidCursor_ThrowsBadRequest() {
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        TaskFilter filter = TaskFilter.builder().cursor("not-a-cursor").build();
+
+        assertThrows(BadRequestException.class, () -> taskService.getTaskPage(filter));
+    }
+
     @Test
     void testGetTaskById_Success() {
+        when(taskCache.get(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Supplier<TaskCacheService.CachedTask>>getArgument(1).get());
         when(taskHelper.getTaskOrThrow(1L)).thenReturn(task);
-        doNothing().when(taskHelper).checkAccess(task);
         when(taskHelper.mapToResponse(task)).thenReturn(taskResponse);
 
         TaskResponse result = taskService.getTaskById(1L);
 
         assertEquals("Mapped Task", result.getTitle());
+        verify(taskHelper).checkAccess(user.getId());
+    }
+
+    @Test
+    void testGetTaskById_CachedChecksAccessWithoutLoading() {
+        when(taskCache.get(eq(1L), any())).thenReturn(new TaskCacheService.CachedTask(2L, taskResponse));
+        doThrow(new UnAuthorizedException("Unauthorized access to task")).when(taskHelper).checkAccess(2L);
+
+        assertThrows(UnAuthorizedException.class, () -> taskService.getTaskById(1L));
+        verify(taskHelper, never()).getTaskOrThrow(any());
     }
 
     @Test
@@ -164,15 +269,19 @@ class TaskServiceTest {
         updateTaskRequest.setValue("COMPLETED");
 
         when(taskHelper.getTaskOrThrow(1L)).thenReturn(task);
-        when(taskHelper.getCurrentUser()).thenReturn(user);
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
         doNothing().when(taskHelper).checkAccess(task);
-        when(taskHelper.isAdmin(user)).thenReturn(false);
         when(taskRepository.save(task)).thenReturn(task);
         when(taskHelper.mapToResponse(task)).thenReturn(taskResponse);
 
         TaskResponse result = taskService.updateTask(1L, updateTaskRequest);
 
         assertEquals("Mapped Task", result.getTitle());
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        TaskSnapshot snapshot = eventCaptor.getValue().tasks().getFirst();
+        assertEquals(TaskChangeType.UPDATED, eventCaptor.getValue().type());
+        assertEquals(TaskStatus.PENDING, snapshot.previousStatus());
+        assertEquals(TaskStatus.COMPLETED, snapshot.status());
     }
 
     @Test
@@ -180,14 +289,12 @@ class TaskServiceTest {
         updateTaskRequest.setType("flag");
         updateTaskRequest.setValue("flagged");
         updateTaskRequest.setAssignedToId(2L);
-        user.setRole(Role.ADMIN);
 
         User assignee = User.builder().id(2L).username("assigned").build();
 
         when(taskHelper.getTaskOrThrow(1L)).thenReturn(task);
-        when(taskHelper.getCurrentUser()).thenReturn(user);
+        when(taskHelper.getCurrentPrincipal()).thenReturn(adminPrincipal);
         doNothing().when(taskHelper).checkAccess(task);
-        when(taskHelper.isAdmin(user)).thenReturn(true);
         when(userRepository.findById(2L)).thenReturn(Optional.of(assignee));
         when(taskRepository.save(task)).thenReturn(task);
         when(taskHelper.mapToResponse(task)).thenReturn(taskResponse);
@@ -202,12 +309,10 @@ class TaskServiceTest {
     void testUpdateTask_ReassignToInvalidUser() {
         updateTaskRequest.setType("flag");
         updateTaskRequest.setAssignedToId(999L);
-        user.setRole(Role.ADMIN);
 
         when(taskHelper.getTaskOrThrow(1L)).thenReturn(task);
-        when(taskHelper.getCurrentUser()).thenReturn(user);
+        when(taskHelper.getCurrentPrincipal()).thenReturn(adminPrincipal);
         doNothing().when(taskHelper).checkAccess(task);
-        when(taskHelper.isAdmin(user)).thenReturn(true);
         when(userRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> taskService.updateTask(1L, updateTaskRequest));
@@ -225,7 +330,7 @@ class TaskServiceTest {
         updateTaskRequest.setType("invalidType");
 
         when(taskHelper.getTaskOrThrow(1L)).thenReturn(task);
-        when(taskHelper.getCurrentUser()).thenReturn(user);
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
         doNothing().when(taskHelper).checkAccess(task);
 
         assertThrows(BadRequestException.class, () -> taskService.updateTask(1L, updateTaskRequest));
@@ -238,6 +343,8 @@ class TaskServiceTest {
 
         taskService.deleteTask(1L);
         verify(taskRepository).delete(task);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(TaskChangeType.DELETED, eventCaptor.getValue().type());
     }
 
     @Test
@@ -248,5 +355,188 @@ class TaskServiceTest {
         taskService.closeTask(1L);
         assertEquals(TaskStatus.COMPLETED, task.getStatus());
         verify(taskRepository).save(task);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(TaskChangeType.CLOSED, eventCaptor.getValue().type());
+        assertEquals(TaskStatus.PENDING, eventCaptor.getValue().tasks().getFirst().previousStatus());
+    }
+
+    @Test
+    void testCloseTask_AlreadyCompleted_PublishesNothing() {
+        task.setStatus(TaskStatus.COMPLETED);
+        when(taskHelper.getTaskOrThrow(1L)).thenReturn(task);
+
+        taskService.closeTask(1L);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testCloseExpiredTasks() {
+        List<Long> ids = List.of(1L, 2L, 3L);
+        Task inProgress = Task.builder().id(3L).user(user).status(TaskStatus.IN_PROGRESS).build();
+        when(taskRepository.lockOpenTasks(eq(ids), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(List.of(task, inProgress));
+        when(taskRepository.closeAll(eq(List.of(1L, 3L)), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(2);
+
+        int closed = taskService.closeExpiredTasks(ids);
+
+        assertEquals(2, closed);
+        verify(taskRepository).closeAll(eq(List.of(1L, 3L)), eq(TaskStatus.COMPLETED), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        TaskChangedEvent event = eventCaptor.getValue();
+        assertEquals(TaskChangeType.CLOSED, event.type());
+        assertEquals(List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS),
+                event.tasks().stream().map(TaskSnapshot::previousStatus).toList());
+        assertTrue(event.tasks().stream().allMatch(t -> t.status() == TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void testCloseExpiredTasks_AllAlreadyClosed() {
+        List<Long> ids = List.of(1L, 2L);
+        when(taskRepository.lockOpenTasks(eq(ids), eq(TaskStatus.COMPLETED), any(LocalDateTime.class))).thenReturn(List.of());
+
+        assertEquals(0, taskService.closeExpiredTasks(ids));
+        verify(taskRepository, never()).closeAll(any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testArchiveCompletedTasks_publishesOneArchivedEvent() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(90);
+        TaskSnapshot archived = new TaskSnapshot(1L, 1L, null, TaskStatus.COMPLETED, TaskStatus.COMPLETED, null);
+        when(taskArchiveJdbcRepository.archive(eq(TaskStatus.COMPLETED), eq(cutoff), eq(100), any(LocalDateTime.class)))
+                .thenReturn(List.of(archived));
+
+        assertEquals(1, taskService.archiveCompletedTasks(cutoff, 100));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(TaskChangeType.ARCHIVED, List.of(archived)));
+    }
+
+    @Test
+    void testArchiveCompletedTasks_nothingToArchivePublishesNothing() {
+        when(taskArchiveJdbcRepository.archive(any(), any(), anyInt(), any())).thenReturn(List.of());
+
+        assertEquals(0, taskService.archiveCompletedTasks(LocalDateTime.now(), 100));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testCreateTasks_insertsValidItemsInOneBatchAndReportsTheRest() {
+        User admin = User.builder().id(1L).username("admin").role(Role.ADMIN).build();
+        User assignee = User.builder().id(2L).username("jane").role(Role.USER).build();
+        when(taskHelper.getCurrentUser()).thenReturn(admin);
+        when(taskHelper.isAdmin(admin)).thenReturn(true);
+        when(userRepository.findAllById(List.of(9L, 2L))).thenReturn(List.of(assignee));
+        when(taskHelper.mapToResponse(any(Task.class))).thenReturn(taskResponse);
+        doAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            for (int i = 0; i < tasks.size(); i++) {
+                tasks.get(i).setId(100L + i);
+            }
+            return tasks.size();
+        }).when(taskJdbcRepository).insertAll(anyList());
+
+        BulkTaskResponse response = taskService.createTasks(List.of(
+                TaskRequest.builder().title("Mine").build(),
+                TaskRequest.builder().title("Missing assignee").assignedToId(9L).build(),
+                TaskRequest.builder().title("For Jane").assignedToId(2L).build()));
+
+        assertEquals(2, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(List.of(201, 404, 201), response.getResults().stream().map(BulkTaskResult::getStatus).toList());
+        assertEquals(101L, response.getResults().get(2).getId());
+
+        ArgumentCaptor<List<Task>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(taskJdbcRepository).insertAll(inserted.capture());
+        assertEquals(List.of(admin, assignee), inserted.getValue().stream().map(Task::getAssignedTo).toList());
+        assertTrue(inserted.getValue().stream().allMatch(t -> t.getStatus() == TaskStatus.PENDING
+                && UNFLAGGED.equals(t.getFlag()) && t.getCreatedAt() != null));
+        verify(userRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(TaskChangeType.CREATED, eventCaptor.getValue().type());
+        assertEquals(List.of(100L, 101L), eventCaptor.getValue().tasks().stream().map(TaskSnapshot::id).toList());
+    }
+
+    @Test
+    void testCreateTasks_rejectsOversizedRequests() {
+        List<TaskRequest> requests = List.of(taskRequest, taskRequest, taskRequest, taskRequest);
+
+        assertThrows(BadRequestException.class, () -> taskService.createTasks(requests));
+        assertThrows(BadRequestException.class, () -> taskService.createTasks(List.of()));
+        verifyNoInteractions(taskJdbcRepository);
+    }
+
+    @Test
+    void testUpdateTasks_checksAccessInMemoryAndPublishesOneEvent() {
+        User other = User.builder().id(5L).username("other").role(Role.USER).build();
+        Task foreign = Task.builder().id(2L).title("Foreign").user(other).status(TaskStatus.PENDING).build();
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        when(taskRepository.findWithUsersByIdIn(List.of(1L, 2L, 3L, 1L))).thenReturn(List.of(task, foreign));
+        when(taskHelper.mapToResponse(task)).thenReturn(taskResponse);
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 10);
+        updateTaskRequest.setId(1L);
+
+        BulkTaskResponse response = taskService.updateTasks(List.of(
+                updateTaskRequest,
+                UpdateTaskRequest.builder().id(2L).type("flag").value("Flagged").build(),
+                UpdateTaskRequest.builder().id(3L).type("flag").value("Flagged").build(),
+                updateTaskRequest));
+
+        assertEquals(List.of(200, 401, 404, 400), response.getResults().stream().map(BulkTaskResult::getStatus).toList());
+        assertEquals(taskResponse, response.getResults().getFirst().getTask());
+        assertEquals(TaskStatus.COMPLETED, task.getStatus());
+        assertEquals("Foreign", foreign.getTitle());
+        verify(taskRepository).flush();
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        TaskSnapshot change = eventCaptor.getValue().tasks().getFirst();
+        assertEquals(TaskStatus.PENDING, change.previousStatus());
+        assertEquals(TaskStatus.COMPLETED, change.status());
+    }
+
+    @Test
+    void testUpdateTasks_invalidStatusLeavesTaskUntouched() {
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        when(taskRepository.findWithUsersByIdIn(List.of(1L))).thenReturn(List.of(task));
+        updateTaskRequest.setId(1L);
+        updateTaskRequest.setValue("NOT_A_STATUS");
+
+        BulkTaskResponse response = taskService.updateTasks(List.of(updateTaskRequest));
+
+        assertEquals(400, response.getResults().getFirst().getStatus());
+        assertEquals("Old Task", task.getTitle());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testUpdateTasks_missingStatusFailsOnlyThatItem() {
+        Task other = Task.builder().id(2L).title("Other").user(task.getUser()).status(TaskStatus.PENDING).build();
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        when(taskRepository.findWithUsersByIdIn(List.of(1L, 2L))).thenReturn(List.of(task, other));
+        ReflectionTestUtils.setField(taskService, "maxBulkItems", 10);
+        updateTaskRequest.setId(1L);
+        updateTaskRequest.setValue(null);
+
+        BulkTaskResponse response = taskService.updateTasks(List.of(
+                updateTaskRequest,
+                UpdateTaskRequest.builder().id(2L).type("flag").value("Flagged").build()));
+
+        assertEquals(List.of(400, 200), response.getResults().stream().map(BulkTaskResult::getStatus).toList());
+        assertEquals("Status value is required", response.getResults().getFirst().getError());
+        assertEquals("Old Task", task.getTitle());
+        assertEquals("Flagged", other.getFlag());
+    }
+
+    @Test
+    void testDeleteTasks_deletesAccessibleTasksWithOneStatement() {
+        User other = User.builder().id(5L).username("other").role(Role.USER).build();
+        Task foreign = Task.builder().id(2L).user(other).status(TaskStatus.PENDING).build();
+        when(taskHelper.getCurrentPrincipal()).thenReturn(principal);
+        when(taskRepository.findAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(task, foreign));
+
+        BulkTaskResponse response = taskService.deleteTasks(List.of(1L, 2L, 3L));
+
+        assertEquals(List.of(204, 401, 404), response.getResults().stream().map(BulkTaskResult::getStatus).toList());
+        verify(taskRepository).deleteAllByIdInBatch(Set.of(1L));
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(TaskChangeType.DELETED, eventCaptor.getValue().type());
+        assertEquals(1, eventCaptor.getValue().tasks().size());
     }
 }
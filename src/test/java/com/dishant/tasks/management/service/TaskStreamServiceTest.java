@@ -0,0 +1,137 @@
+package com.dishant.tasks.management.service;
+
+import com.dishant.tasks.management.event.TaskChangeType;
+import com.dishant.tasks.management.event.TaskChangedEvent;
+import com.dishant.tasks.management.event.TaskSnapshot;
+import com.dishant.tasks.management.model.Role;
+import com.dishant.tasks.management.model.TaskStatus;
+import com.dishant.tasks.management.security.AuthenticatedUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class TaskStreamServiceTest {
+
+    private static final AuthenticatedUser ALICE = new AuthenticatedUser(1L, "alice", Role.USER);
+    private static final AuthenticatedUser BOB = new AuthenticatedUser(2L, "bob", Role.USER);
+    private static final AuthenticatedUser ADMIN = new AuthenticatedUser(3L, "admin", Role.ADMIN);
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskStreamService streamService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        streamService = new TaskStreamService(new ObjectMapper().findAndRegisterModules(), meterRegistry);
+        ReflectionTestUtils.setField(streamService, "timeout", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(streamService, "queueCapacity", 2);
+        ReflectionTestUtils.setField(streamService, "writerThreads", 1);
+        streamService.startWriters();
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(streamService)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamService.stopWriters();
+    }
+
+    @Test
+    void testDispatch_shouldScopeChangesToOwnerAndAdmins() throws Exception {
+        MvcResult alice = open("alice");
+        MvcResult bob = open("bob");
+        MvcResult admin = open("admin");
+
+        streamService.dispatch(TaskChangedEvent.of(TaskChangeType.UPDATED,
+                new TaskSnapshot(10L, ALICE.id(), null, TaskStatus.IN_PROGRESS, TaskStatus.PENDING, null)));
+        awaitWriters();
+
+        String aliceStream = alice.getResponse().getContentAsString();
+        assertTrue(aliceStream.contains("event:connected"));
+        assertTrue(aliceStream.contains("event:updated"));
+        assertTrue(aliceStream.contains("\"id\":10"));
+        assertFalse(bob.getResponse().getContentAsString().contains("event:updated"));
+        assertTrue(admin.getResponse().getContentAsString().contains("event:updated"));
+    }
+
+    @Test
+    void testDispatch_shouldDropSubscriberThatFallsBehind() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService stalled = Executors.newSingleThreadExecutor();
+        stalled.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        ReflectionTestUtils.setField(streamService, "writers", stalled);
+
+        open("alice");
+        assertEquals(1, streamService.openStreams());
+
+        // "connected" plus one change fill the queue of two; the next change overflows it
+        List<TaskSnapshot> changes = List.of(
+                new TaskSnapshot(10L, ALICE.id(), null, TaskStatus.PENDING, null, null),
+                new TaskSnapshot(11L, ALICE.id(), null, TaskStatus.PENDING, null, null));
+        streamService.dispatch(new TaskChangedEvent(TaskChangeType.CREATED, changes));
+
+        assertEquals(0, streamService.openStreams());
+        assertEquals(1, meterRegistry.get("task.stream.dropped").counter().count());
+        release.countDown();
+        stalled.shutdown();
+    }
+
+    private MvcResult open(String user) throws Exception {
+        return mockMvc.perform(get("/stream").param("user", user).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    // The single writer runs drains in submission order, so a no-op queued last finishes after all of them
+    private void awaitWriters() throws Exception {
+        ExecutorService writers = (ExecutorService) ReflectionTestUtils.getField(streamService, "writers");
+        writers.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final TaskStreamService streamService;
+
+        StreamController(TaskStreamService streamService) {
+            this.streamService = streamService;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestParam String user) {
+            return streamService.subscribe(switch (user) {
+                case "alice" -> ALICE;
+                case "bob" -> BOB;
+                default -> ADMIN;
+            });
+        }
+    }
+}
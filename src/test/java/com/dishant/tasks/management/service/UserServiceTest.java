@@ -3,6 +3,7 @@ package com.dishant.tasks.management.service;
 import com.dishant.tasks.management.model.Role;
 import com.dishant.tasks.management.model.User;
 import com.dishant.tasks.management.repository.UserRepository;
+import com.dishant.tasks.management.security.UserPrincipalCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -27,6 +28,9 @@ class UserServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private UserPrincipalCache principalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -172,7 +176,7 @@ class UserServiceTest {
         assertNotNull(user.getResetToken());
         assertNotNull(user.getResetTokenExpiry());
         verify(userRepository).save(user);
-        verify(emailService).sendVerificationEmail(eq(user), contains("reset-password"));
+        verify(emailService).sendPasswordResetEmail(eq(user), contains("reset-password"));
     }
 
     @Test
@@ -199,6 +203,7 @@ class UserServiceTest {
         assertNull(user.getResetToken());
         assertNull(user.getResetTokenExpiry());
         verify(userRepository).save(user);
+        verify(principalCache).evict(user);
     }
 
     @Test